@@ -0,0 +1,25 @@
+package main;
+
+// shared setup para pareho ang scene sa tanan benchmarks
+final class BenchmarkScenes {
+
+    static final int WIDTH = 800;
+    static final int HEIGHT = 600;
+
+    private BenchmarkScenes() { }
+
+    static GameSimulation newSimulation(int entityCount) {
+        GameSimulation simulation = new GameSimulation(WIDTH, HEIGHT);
+        simulation.newGame("Bron");
+        fill(simulation, entityCount);
+        return simulation;
+    }
+
+    // newGame() already spawns 3; deterministic spread para same ang layout every run
+    static void fill(GameSimulation simulation, int entityCount) {
+        simulation.setInvulnerable(true);
+        for (int i = simulation.getPersonnel().size(); i < entityCount; i++) {
+            simulation.spawnPersonnel((i * 37) % (WIDTH - 64), GameSimulation.HUD_HEIGHT + (i * 53) % (HEIGHT - GameSimulation.HUD_HEIGHT - 64));
+        }
+    }
+}
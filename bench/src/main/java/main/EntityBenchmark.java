@@ -0,0 +1,62 @@
+package main;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Rectangle;
+import java.util.concurrent.TimeUnit;
+
+// getBounds() ug intersection, ang gigamit sa applyPassiveDamage ug performBasicAttack
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityBenchmark {
+
+    private GameEntity player;
+    private GameEntity overlapping;
+    private GameEntity apart;
+
+    @Setup
+    public void setup() {
+        player = new GameEntity(368, 268, 64, 64, 1500, 180, 4000, null, "Bron");
+        overlapping = new Personnel(400, 300, null);
+        apart = new Personnel(100, 100, null);
+    }
+
+    @Benchmark
+    public Rectangle getBounds() {
+        return player.getBounds();
+    }
+
+    @Benchmark
+    public boolean intersectsOverlapping() {
+        return player.getBounds().intersects(overlapping.getBounds());
+    }
+
+    @Benchmark
+    public boolean intersectsApart() {
+        return player.getBounds().intersects(apart.getBounds());
+    }
+
+    @Benchmark
+    public boolean intersectsPrimitive() {
+        return player.intersects(overlapping);
+    }
+
+    @Benchmark
+    public void attackHitboxPrimitive(Blackhole bh) {
+        int attackX = player.getX() + player.getWidth();
+        bh.consume(overlapping.intersects(attackX, player.getY(), GameSimulation.ATTACK_RANGE, player.getHeight()));
+        bh.consume(apart.intersects(attackX, player.getY(), GameSimulation.ATTACK_RANGE, player.getHeight()));
+    }
+
+    @Benchmark
+    public void attackHitbox(Blackhole bh) {
+        Rectangle attackBounds = new Rectangle(player.getX() + player.getWidth(), player.getY(), GameSimulation.ATTACK_RANGE, player.getHeight());
+        bh.consume(overlapping.getBounds().intersects(attackBounds));
+        bh.consume(apart.getBounds().intersects(attackBounds));
+    }
+}
@@ -0,0 +1,51 @@
+package main;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// usa ka GameSimulation.step() nga daghan ug live projectiles (integrate + collision)
+// kalahati hostile (vs player), kalahati player (vs 300 Personnel sa spatial hash); 0 damage para steady ang scene
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjectileBenchmark {
+
+    @Param({"1000", "5000"})
+    public int projectileCount;
+
+    private GameSimulation simulation;
+    private ProjectilePool projectiles;
+    private SplittableRandom random;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        simulation = BenchmarkScenes.newSimulation(300);
+        projectiles = simulation.getProjectiles();
+        random = new SplittableRandom(42);
+        topUp();
+    }
+
+    // ang na patay (wall, lifetime, hit) kay i-puli para pareho ang count matag tick
+    private void topUp() {
+        while (projectiles.size() < projectileCount) {
+            double angle = random.nextDouble(Math.PI * 2);
+            projectiles.spawn(
+                    random.nextInt(32, BenchmarkScenes.WIDTH - 32),
+                    random.nextInt(GameSimulation.HUD_HEIGHT + 32, BenchmarkScenes.HEIGHT - 32),
+                    (float) (Math.cos(angle) * 5), (float) (Math.sin(angle) * 5),
+                    0, 120, (byte) (projectiles.size() & 1));
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        topUp();
+        simulation.step();
+        return projectiles.size();
+    }
+}
@@ -0,0 +1,47 @@
+package main;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+// GamePanel.renderFrame() (ang sulod sa paintComponent) ngadto sa offscreen BufferedImage
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+
+    @Param({"3", "300", "30000"})
+    public int entityCount;
+
+    private GamePanel panel;
+    private BufferedImage frame;
+    private Graphics2D g2d;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        panel = new GamePanel();
+        panel.setSize(BenchmarkScenes.WIDTH, BenchmarkScenes.HEIGHT);
+        panel.setPlayerCharacter("Bron");
+        BenchmarkScenes.fill(panel.getSimulation(), entityCount);
+        panel.publishSnapshot();
+
+        frame = new BufferedImage(BenchmarkScenes.WIDTH, BenchmarkScenes.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = frame.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g2d.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        panel.renderFrame(g2d, BenchmarkScenes.WIDTH, BenchmarkScenes.HEIGHT);
+        return frame;
+    }
+}
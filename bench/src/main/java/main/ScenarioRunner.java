@@ -0,0 +1,308 @@
+package main;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// canned scenarios sa tibuok GamePanel loop (tick + snapshot + render) sa offscreen surface, walay window
+// matag scenario: ticks/s, p99 frame time ug allocation sa game thread, dayon i-compare sa bench/scenarios.dat
+// usage (sa repo root, human sa mvn package sa bench/):
+//   java -Djava.awt.headless=true -cp bench/target/benchmarks.jar main.ScenarioRunner [--baselines file] [--write-baselines]
+//        [--warmup seconds] [--seconds seconds] [scenario ...]
+// exit code 1 kung naay regression
+public class ScenarioRunner {
+
+    public static final String DEFAULT_BASELINES = "bench/scenarios.dat";
+    public static final int DEFAULT_WARMUP_SECONDS = 3;
+    public static final int DEFAULT_SECONDS = 5;
+    // percent; ma override matag scenario sa baselines file
+    public static final int DEFAULT_TOLERANCE = 25;
+    // ang p99 kay mas saba (GC, scheduler), so mas luag
+    public static final int DEFAULT_P99_TOLERANCE = 50;
+    // gamay nga allocation kay noise ra (e.g. JIT deopt), dili regression
+    public static final int ALLOC_SLACK_BYTES = 256;
+    public static final int POPUPS_PER_TICK = 64;
+    // same sa window
+    public static final int WIDTH = 800;
+    public static final int HEIGHT = 600;
+    private static final int MAX_FRAMES = 1 << 20;
+
+    interface Driver {
+        // game thread, sa dili pa ang matag tick
+        void beforeTick(GameSimulation simulation);
+    }
+
+    static final class Scenario {
+        final String name;
+        final int map;
+        final int personnel;
+        final boolean bossFight;
+        final Driver driver;
+
+        Scenario(String name, int map, int personnel, boolean bossFight, Driver driver) {
+            this.name = name;
+            this.map = map;
+            this.personnel = personnel;
+            this.bossFight = bossFight;
+            this.driver = driver;
+        }
+    }
+
+    static final List<Scenario> SCENARIOS = List.of(
+            new Scenario("stock", 1, 0, false, simulation -> { }),
+            new Scenario("personnel-1k", 1, 1_000, false, simulation -> { }),
+            new Scenario("personnel-10k", 1, 10_000, false, simulation -> { }),
+            new Scenario("boss-fight", 4, 0, true, ScenarioRunner::fightBoss),
+            new Scenario("popup-storm", 1, 0, false, ScenarioRunner::popupStorm)
+    );
+
+    static final class Result {
+        final String name;
+        final long ticksPerSecond;
+        final long p50FrameMicros;
+        final long p99FrameMicros;
+        final long allocBytesPerTick;
+        final double allocMegabytesPerSecond;
+
+        Result(String name, long ticksPerSecond, long p50FrameMicros, long p99FrameMicros,
+               long allocBytesPerTick, double allocMegabytesPerSecond) {
+            this.name = name;
+            this.ticksPerSecond = ticksPerSecond;
+            this.p50FrameMicros = p50FrameMicros;
+            this.p99FrameMicros = p99FrameMicros;
+            this.allocBytesPerTick = allocBytesPerTick;
+            this.allocMegabytesPerSecond = allocMegabytesPerSecond;
+        }
+    }
+
+    // game thread ra ang mo sulat; ang runner mo basa human sa stopGameLoop() (join)
+    private static final class Recorder implements GamePanel.OffscreenHooks {
+        private final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private final Driver driver;
+        private final long measureStart;
+        private final long[] frames = new long[MAX_FRAMES];
+        private int frameCount = 0;
+        private long firstNanos, lastNanos;
+        private long firstAlloc, lastAlloc;
+
+        Recorder(Driver driver, long measureStart) {
+            this.driver = driver;
+            this.measureStart = measureStart;
+        }
+
+        @Override
+        public void beforeTick(GameSimulation simulation) {
+            driver.beforeTick(simulation);
+        }
+
+        @Override
+        public void afterFrame(long frameNanos) {
+            long now = System.nanoTime();
+            if (now < measureStart || frameCount == MAX_FRAMES) return;
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            if (frameCount == 0) {
+                // ang una nga frame kay reference ra
+                firstNanos = now;
+                firstAlloc = allocated;
+            }
+            frames[frameCount++] = frameNanos;
+            lastNanos = now;
+            lastAlloc = allocated;
+        }
+
+        Result result(String name) {
+            int n = frameCount - 1;
+            if (n <= 0) return new Result(name, 0, 0, 0, 0, 0);
+            long[] sorted = Arrays.copyOfRange(frames, 1, frameCount);
+            Arrays.sort(sorted);
+            double seconds = (lastNanos - firstNanos) / 1e9;
+            long allocated = lastAlloc - firstAlloc;
+            return new Result(name, Math.round(n / seconds),
+                    sorted[Math.min(n - 1, (int) Math.ceil(0.50 * n) - 1)] / 1000,
+                    sorted[Math.min(n - 1, (int) Math.ceil(0.99 * n) - 1)] / 1000,
+                    allocated / n, allocated / seconds / (1024 * 1024));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        Path baselineFile = Paths.get(DEFAULT_BASELINES);
+        boolean writeBaselines = false;
+        int warmup = DEFAULT_WARMUP_SECONDS;
+        int seconds = DEFAULT_SECONDS;
+        List<Scenario> selected = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baselines" -> baselineFile = Paths.get(args[++i]);
+                case "--write-baselines" -> writeBaselines = true;
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--seconds" -> seconds = Integer.parseInt(args[++i]);
+                default -> selected.add(find(args[i]));
+            }
+        }
+        if (selected.isEmpty()) selected.addAll(SCENARIOS);
+
+        Map<String, DataFile.Section> baselines = readBaselines(baselineFile);
+        List<Result> results = new ArrayList<>();
+        int regressions = 0;
+        for (Scenario scenario : selected) {
+            Result result = run(scenario, warmup, seconds);
+            results.add(result);
+            List<String> problems = compare(result, baselines.get(result.name));
+            System.out.printf("%-14s ticks/s %,8d | frame p50 %7.3f ms  p99 %7.3f ms | alloc %,7d B/tick %8.2f MB/s | %s%n",
+                    result.name, result.ticksPerSecond, result.p50FrameMicros / 1000.0, result.p99FrameMicros / 1000.0,
+                    result.allocBytesPerTick, result.allocMegabytesPerSecond,
+                    baselines.containsKey(result.name) ? (problems.isEmpty() ? "OK" : "REGRESSED: " + String.join(", ", problems))
+                            : "no baseline");
+            if (!problems.isEmpty()) regressions++;
+        }
+
+        if (writeBaselines) {
+            writeBaselines(baselineFile, baselines, results);
+            System.out.println("Scenarios: wrote baselines to " + baselineFile.toAbsolutePath());
+        } else if (regressions > 0) {
+            System.out.println("Scenarios: " + regressions + " of " + results.size() + " regressed");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static Scenario find(String name) {
+        for (Scenario scenario : SCENARIOS) {
+            if (scenario.name.equals(name)) return scenario;
+        }
+        throw new IllegalArgumentException("unknown scenario '" + name + "'");
+    }
+
+    static Result run(Scenario scenario, int warmupSeconds, int seconds) throws InterruptedException {
+        GamePanel panel = new GamePanel();
+        panel.setSize(WIDTH, HEIGHT);
+        panel.startMap("Bron", scenario.map);
+        GameSimulation simulation = panel.getSimulation();
+        simulation.setInvulnerable(true);
+
+        // deterministic nga spread sa tibuok world; ang walls kay i-findFree sa spawnPersonnel
+        int width = simulation.getWidth() - PersonnelStore.SIZE;
+        int height = simulation.getHeight() - PersonnelStore.SIZE;
+        for (int i = 0; i < scenario.personnel; i++) {
+            simulation.spawnPersonnel((i * 37) % width, (i * 53) % height);
+        }
+        if (scenario.bossFight) {
+            // ang sunod nga tick mo switch sa PHASE_BOSS
+            PersonnelStore personnel = simulation.getPersonnel();
+            for (int i = 0; i < personnel.size(); i++) personnel.takeDamage(i, personnel.getHP(i));
+        }
+        panel.publishSnapshot();
+
+        long measureStart = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        Recorder recorder = new Recorder(scenario.driver, measureStart);
+        BufferedImage surface = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        panel.startOffscreen(surface, recorder);
+        Thread.sleep((warmupSeconds + seconds) * 1000L);
+        panel.stopGameLoop();
+        return recorder.result(scenario.name);
+    }
+
+    // duol sa boss ug cast sa tanan skills kada tick; refill para dili mahuman ang away
+    private static void fightBoss(GameSimulation simulation) {
+        GameEntity player = simulation.getPlayer();
+        GameEntity boss = simulation.getBoss();
+        if (boss == null) return;
+        int targetX = boss.getX() - player.getWidth();
+        simulation.setLeftPressed(player.getX() > targetX);
+        simulation.setRightPressed(player.getX() < targetX);
+        simulation.setUpPressed(player.getY() > boss.getY());
+        simulation.setDownPressed(player.getY() < boss.getY());
+        simulation.refill();
+        for (int slot = 0; slot < SkillBook.SLOTS; slot++) simulation.castSkill(slot);
+    }
+
+    // POPUPS_PER_TICK damage numbers sa palibot sa player; ~1 s ang kinabuhi, so ~3,800 live
+    private static void popupStorm(GameSimulation simulation) {
+        GameEntity player = simulation.getPlayer();
+        long now = simulation.getClock().nowMillis();
+        long tick = simulation.getTickCount();
+        for (int i = 0; i < POPUPS_PER_TICK; i++) {
+            int spread = (int) ((tick * 31 + i * 97) % 400) - 200;
+            simulation.getPopups().add(-(i * 13 + 7), player.getX() + spread, player.getY() + (spread * 7 % 300),
+                    i % 3, now);
+        }
+    }
+
+    private static List<String> compare(Result result, DataFile.Section baseline) {
+        List<String> problems = new ArrayList<>();
+        if (baseline == null) return problems;
+        double tolerance = baseline.intValue("tolerance", DEFAULT_TOLERANCE) / 100.0;
+
+        long minTicks = Math.round(baseline.intValue("ticksPerSecond") * (1 - tolerance));
+        if (result.ticksPerSecond < minTicks) {
+            problems.add("ticks/s " + result.ticksPerSecond + " < " + minTicks);
+        }
+        double p99Tolerance = baseline.intValue("p99Tolerance", DEFAULT_P99_TOLERANCE) / 100.0;
+        long maxP99 = Math.round(baseline.intValue("p99FrameMicros") * (1 + p99Tolerance));
+        if (result.p99FrameMicros > maxP99) {
+            problems.add("p99 " + result.p99FrameMicros + " us > " + maxP99 + " us");
+        }
+        long maxAlloc = Math.round(baseline.intValue("allocBytesPerTick") * (1 + tolerance)) + ALLOC_SLACK_BYTES;
+        if (result.allocBytesPerTick > maxAlloc) {
+            problems.add("alloc " + result.allocBytesPerTick + " B/tick > " + maxAlloc);
+        }
+        return problems;
+    }
+
+    private static Map<String, DataFile.Section> readBaselines(Path file) throws IOException {
+        Map<String, DataFile.Section> baselines = new LinkedHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            System.out.println("Scenarios: no baselines at " + file.toAbsolutePath() + ", nothing to compare");
+            return baselines;
+        }
+        for (DataFile.Section section : DataFile.read(file)) {
+            if (!section.header.startsWith("scenario ")) throw section.error("expected [scenario <name>]");
+            baselines.put(section.header.substring("scenario ".length()).strip(), section);
+        }
+        return baselines;
+    }
+
+    // ang tolerance ug ang scenarios nga wala gi-run kay magpabilin
+    private static void writeBaselines(Path file, Map<String, DataFile.Section> old, List<Result> results) throws IOException {
+        Map<String, String> blocks = new LinkedHashMap<>();
+        for (Map.Entry<String, DataFile.Section> entry : old.entrySet()) {
+            DataFile.Section section = entry.getValue();
+            blocks.put(entry.getKey(), block(entry.getKey(), section.intValue("ticksPerSecond"),
+                    section.intValue("p99FrameMicros"), section.intValue("allocBytesPerTick"), section));
+        }
+        for (Result result : results) {
+            blocks.put(result.name, block(result.name, result.ticksPerSecond, result.p99FrameMicros, result.allocBytesPerTick,
+                    old.get(result.name)));
+        }
+
+        StringBuilder text = new StringBuilder()
+                .append("# ScenarioRunner baselines; i-regenerate gamit --write-baselines sa same nga machine\n")
+                .append("# regression kung ticks/s mo ubos, or allocation (bytes matag tick) mo taas, labaw sa tolerance (percent);\n")
+                .append("# ang p99 frame time (us) kay p99Tolerance\n");
+        for (String block : blocks.values()) text.append('\n').append(block);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Files.writeString(file, text);
+    }
+
+    // ang tolerances gikan sa daan nga section kung naa
+    private static String block(String name, long ticksPerSecond, long p99FrameMicros, long allocBytesPerTick, DataFile.Section old) {
+        return "[scenario " + name + "]\n"
+                + "ticksPerSecond = " + ticksPerSecond + "\n"
+                + "p99FrameMicros = " + p99FrameMicros + "\n"
+                + "allocBytesPerTick = " + allocBytesPerTick + "\n"
+                + "tolerance = " + (old != null ? old.intValue("tolerance", DEFAULT_TOLERANCE) : DEFAULT_TOLERANCE) + "\n"
+                + "p99Tolerance = " + (old != null ? old.intValue("p99Tolerance", DEFAULT_P99_TOLERANCE) : DEFAULT_P99_TOLERANCE) + "\n";
+    }
+}
@@ -0,0 +1,46 @@
+package main;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// SkillEngine.advance() nga daghan ug active cooldowns, channels ug pulses
+// matag tick usa ka caster (round-robin) ang mo cast sa iyang tulo ka skills, so steady ang timer count
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SkillBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int casterCount;
+
+    private GameClock clock;
+    private SkillEngine engine;
+    private int applied;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        clock = new GameClock();
+        engine = new SkillEngine(clock, (caster, skill) -> applied++);
+        String[] characters = { "Bron", "Abdul", "Jamal" };
+        for (int i = 0; i < casterCount; i++) {
+            engine.addCaster(SkillBook.shared().loadout(characters[i % characters.length]));
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public int tick() {
+        clock.advance();
+        engine.advance();
+        for (int slot = 0; slot < SkillBook.SLOTS; slot++) {
+            engine.cast(next, slot);
+        }
+        next = next + 1 == casterCount ? 0 : next + 1;
+        return applied + engine.getActiveTimers();
+    }
+}
@@ -0,0 +1,36 @@
+package main;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// usa ka full GameSimulation.step(), same sa updateGameLogic() sa GamePanel
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TickBenchmark {
+
+    @Param({"3", "300", "30000"})
+    public int entityCount;
+
+    // PersonnelStore.updateAll() sa ForkJoin pool (kung >= PARALLEL_THRESHOLD) or serial
+    @Param({"true", "false"})
+    public boolean parallel;
+
+    private GameSimulation simulation;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        simulation = BenchmarkScenes.newSimulation(entityCount);
+        simulation.getPersonnel().setParallelUpdate(parallel);
+    }
+
+    @Benchmark
+    public long tick() {
+        simulation.step();
+        return simulation.getTickCount();
+    }
+}
@@ -0,0 +1,71 @@
+package main;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// random walk ug chase (FlowField lookup) update sa usa ka Personnel ug sa Boss
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UpdateBenchmark {
+
+    private Personnel personnel;
+    private Boss boss;
+    private PersonnelStore store;
+    private TileMap map;
+    private FlowField field;
+    private boolean farCorner = false;
+
+    @Setup
+    public void setup() {
+        personnel = new Personnel(400, 300, null);
+        boss = new Boss(600, 150, null);
+        map = TileMap.open(800, 600);
+        store = new PersonnelStore();
+        store.spawn(400, 300);
+        field = new FlowField();
+        field.reset(map, PersonnelStore.SIZE);
+        field.update(0, 0);
+    }
+
+    @Benchmark
+    public int personnelUpdate() {
+        personnel.update(800, 600);
+        return personnel.getX();
+    }
+
+    @Benchmark
+    public int personnelStoreUpdate() {
+        store.update(0, map);
+        return store.getX(0);
+    }
+
+    @Benchmark
+    public int bossUpdate() {
+        boss.update(map);
+        return boss.getX();
+    }
+
+    @Benchmark
+    public int personnelStoreChase() {
+        store.update(0, map, field);
+        // naa na sa player: balhin sa pikas kanto, usa ka rebuild matag pipila ka gatos ka calls
+        if (field.nextCell(store.getX(0), store.getY(0)) == FlowField.NO_CELL) {
+            farCorner = !farCorner;
+            field.update(farCorner ? map.getPixelWidth() - 64 : 0, farCorner ? map.getPixelHeight() - 64 : 0);
+        }
+        return store.getX(0);
+    }
+
+    // usa ka tibuok BFS, ang cost inig balhin sa player og cell
+    @Benchmark
+    public long flowFieldRebuild() {
+        field.update(0, 0);
+        field.update(map.getPixelWidth() - 64, map.getPixelHeight() - 64);
+        return field.getRebuilds();
+    }
+}
@@ -0,0 +1,99 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameClockTest {
+
+    @Test
+    void sixtyTicksAreExactlyOneSecond() {
+        GameClock clock = new GameClock();
+        for (int i = 0; i < GameClock.TICKS_PER_SECOND; i++) clock.advance();
+        assertEquals(1_000_000_000L, clock.nowNanos());
+        assertEquals(1000, clock.nowMillis());
+
+        // walay drift bisan taas nga run
+        for (int i = 0; i < 60 * 60 * GameClock.TICKS_PER_SECOND - GameClock.TICKS_PER_SECOND; i++) clock.advance();
+        assertEquals(3_600_000, clock.nowMillis());
+        assertEquals(216_000, clock.getTick());
+    }
+
+    @Test
+    void timeScaleMultipliesGameTime() {
+        GameClock clock = new GameClock();
+        clock.setTimeScale(2.0);
+        for (int i = 0; i < GameClock.TICKS_PER_SECOND; i++) clock.advance();
+        assertEquals(2000, clock.nowMillis());
+    }
+
+    @Test
+    void ticksForMatchesTheReadmeCooldowns() {
+        GameClock clock = new GameClock();
+        assertEquals(0, clock.ticksFor(0));
+        assertEquals(1, clock.ticksFor(1));
+        assertEquals(60, clock.ticksFor(1000));
+        assertEquals(240, clock.ticksFor(4000));
+        // rounded up: ang cooldown dili mahuman una sa iyang ms
+        assertEquals(2, clock.ticksFor(17));
+    }
+
+    @Test
+    void ticksForFollowsTheTimeScale() {
+        GameClock clock = new GameClock();
+        clock.setTimeScale(2.0);
+        assertEquals(30, clock.ticksFor(1000));
+        clock.setTimeScale(0.5);
+        assertEquals(120, clock.ticksFor(1000));
+    }
+
+    @Test
+    void timeScaleMustBePositive() {
+        GameClock clock = new GameClock();
+        assertThrows(IllegalArgumentException.class, () -> clock.setTimeScale(0));
+        assertThrows(IllegalArgumentException.class, () -> clock.setTimeScale(-1));
+    }
+
+    @Test
+    void pausedClockDoesNotAdvance() {
+        GameClock clock = new GameClock();
+        clock.advance();
+        clock.setPaused(true);
+        assertFalse(clock.advance());
+        assertEquals(1, clock.getTick());
+
+        clock.setPaused(false);
+        assertTrue(clock.advance());
+        assertEquals(2, clock.getTick());
+    }
+
+    @Test
+    void restoredClockContinuesLikeTheOriginal() {
+        GameClock original = new GameClock();
+        for (int i = 0; i < 1234; i++) original.advance();
+
+        GameClock restored = new GameClock();
+        restored.restore(original.getTick(), original.nowNanos());
+        for (int i = 0; i < 5000; i++) {
+            original.advance();
+            restored.advance();
+        }
+        assertEquals(original.getTick(), restored.getTick());
+        assertEquals(original.nowNanos(), restored.nowNanos());
+    }
+
+    @Test
+    void resetStartsFromZero() {
+        GameClock clock = new GameClock();
+        for (int i = 0; i < 100; i++) clock.advance();
+        clock.reset();
+        assertEquals(0, clock.getTick());
+        assertEquals(0, clock.nowNanos());
+
+        for (int i = 0; i < GameClock.TICKS_PER_SECOND; i++) clock.advance();
+        assertEquals(1000, clock.nowMillis());
+    }
+}
@@ -0,0 +1,105 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersonnelStoreTest {
+
+    @Test
+    void handlesFindTheirEntity() {
+        PersonnelStore store = new PersonnelStore(2);
+        int[] handles = new int[10];
+        for (int i = 0; i < handles.length; i++) handles[i] = store.spawn(i * 10, i * 20);
+
+        assertEquals(10, store.size());
+        for (int i = 0; i < handles.length; i++) {
+            int index = store.indexOf(handles[i]);
+            assertEquals(i * 10, store.getX(index));
+            assertEquals(i * 20, store.getY(index));
+            assertEquals(handles[i], store.handleAt(index));
+        }
+    }
+
+    @Test
+    void removeMovesTheLastEntityIntoTheHole() {
+        PersonnelStore store = new PersonnelStore();
+        int first = store.spawn(0, 0);
+        int middle = store.spawn(10, 10);
+        int last = store.spawn(20, 20);
+
+        int hole = store.indexOf(first);
+        assertTrue(store.remove(first));
+        assertEquals(2, store.size());
+
+        // ang last na sa index sa gi-remove, ang middle wala nausab
+        assertEquals(hole, store.indexOf(last));
+        assertEquals(20, store.getX(hole));
+        assertEquals(10, store.getX(store.indexOf(middle)));
+        assertFalse(store.isAlive(first));
+        assertTrue(store.isAlive(middle));
+        assertTrue(store.isAlive(last));
+    }
+
+    @Test
+    void backwardsRemoveLoopVisitsEveryEntity() {
+        PersonnelStore store = new PersonnelStore();
+        for (int i = 0; i < 100; i++) store.spawn(i, 0);
+
+        // same sa loop sa GameSimulation: i-remove ang odd x
+        int visited = 0;
+        for (int i = store.size() - 1; i >= 0; i--) {
+            visited++;
+            if (store.getX(i) % 2 == 1) store.removeAt(i);
+        }
+        assertEquals(100, visited);
+        assertEquals(50, store.size());
+        for (int i = 0; i < store.size(); i++) assertEquals(0, store.getX(i) % 2);
+    }
+
+    @Test
+    void reusedSlotGetsANewGeneration() {
+        PersonnelStore store = new PersonnelStore();
+        int old = store.spawn(1, 1);
+        store.remove(old);
+
+        int reused = store.spawn(2, 2);
+        assertEquals(PersonnelStore.slotOf(old), PersonnelStore.slotOf(reused));
+        assertNotEquals(old, reused);
+        assertFalse(store.isAlive(old));
+        assertEquals(-1, store.indexOf(old));
+        assertFalse(store.remove(old));
+        assertTrue(store.isAlive(reused));
+        assertEquals(2, store.getX(store.indexOf(reused)));
+    }
+
+    @Test
+    void clearMakesOldHandlesStale() {
+        PersonnelStore store = new PersonnelStore();
+        int[] before = new int[5];
+        for (int i = 0; i < before.length; i++) before[i] = store.spawn(i, i);
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        // ang bag-o nga run mo reuse sa same slots
+        for (int i = 0; i < before.length; i++) store.spawn(100 + i, 0);
+
+        assertEquals(5, store.size());
+        for (int handle : before) {
+            assertFalse(store.isAlive(handle));
+            assertFalse(store.remove(handle));
+        }
+        assertEquals(5, store.size());
+    }
+
+    @Test
+    void invalidHandlesAreNotAlive() {
+        PersonnelStore store = new PersonnelStore();
+        store.spawn(0, 0);
+        assertFalse(store.isAlive(PersonnelStore.NO_HANDLE));
+        assertEquals(-1, store.indexOf(12345));
+    }
+}
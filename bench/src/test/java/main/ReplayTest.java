@@ -0,0 +1,83 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayTest {
+
+    private static final long SEED = 0x5eedL;
+    private static final int TICKS = 1200;
+
+    // same sa GamePanel.startMap, dayon usa ka scripted nga player: lakaw, atake, skills
+    private static Replay record() {
+        GameSimulation simulation = new GameSimulation(800, 600);
+        simulation.resetProgress("Bron");
+        simulation.loadMap(MapLibrary.shared().get(1));
+        simulation.newGame("Bron", SEED);
+        simulation.startRecording();
+
+        InputQueue input = simulation.getInput();
+        int[] moves = {InputQueue.MOVE_RIGHT, InputQueue.MOVE_DOWN, InputQueue.MOVE_LEFT, InputQueue.MOVE_UP};
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick % 90 == 0) input.offer(moves[tick / 90 % 4], true, 0);
+            if (tick % 90 == 60) input.offer(moves[tick / 90 % 4], false, 0);
+            if (tick % 15 == 0) {
+                // duha ka event sa same tick
+                input.offer(InputQueue.ATTACK, true, 0);
+                input.offer(InputQueue.ATTACK, false, 0);
+            }
+            if (tick % 200 == 100) input.offer(InputQueue.SKILL_2, true, 0);
+            if (tick % 200 == 101) input.offer(InputQueue.SKILL_2, false, 0);
+            simulation.step();
+        }
+        return simulation.stopRecording();
+    }
+
+    @Test
+    void encodeDecodeKeepsEveryField() throws IOException {
+        Replay recorded = record();
+        Replay decoded = Replay.decode(recorded.encode());
+
+        assertEquals("Bron", decoded.getCharacter());
+        assertEquals(1, decoded.getMapNumber());
+        assertEquals(SEED, decoded.getSeed());
+        assertEquals(TICKS, decoded.getEndTick());
+        assertEquals(recorded.getEndHash(), decoded.getEndHash());
+        assertEquals(recorded.getEventCount(), decoded.getEventCount());
+        assertEquals(recorded.getLogSize(), decoded.getLogSize());
+        assertTrue(decoded.getEventCount() > 0);
+        assertArrayEquals(recorded.encode(), decoded.encode());
+    }
+
+    @Test
+    void decodedReplayReachesTheRecordedState() throws IOException {
+        Replay replay = Replay.decode(record().encode());
+
+        GameSimulation simulation = new GameSimulation(800, 600);
+        simulation.startReplay(replay);
+        Replay.Cursor cursor = replay.cursor();
+        while (cursor.feed(simulation)) simulation.step();
+
+        assertEquals(replay.getEndTick(), simulation.getTickCount());
+        assertEquals(replay.getEndHash(), simulation.stateHash());
+    }
+
+    @Test
+    void corruptFileIsRejected() {
+        byte[] data = record().encode();
+        data[data.length / 2] ^= 0x40;
+        IOException e = assertThrows(IOException.class, () -> Replay.decode(data));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void truncatedFileIsRejected() {
+        assertThrows(IOException.class, () -> Replay.decode(new byte[4]));
+    }
+}
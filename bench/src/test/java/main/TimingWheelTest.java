@@ -0,0 +1,142 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    // "tick:type:target:data" matag fire
+    private final List<String> fired = new ArrayList<>();
+
+    private void advance(TimingWheel wheel, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            wheel.advance((type, target, data) -> fired.add(wheel.getTick() + ":" + type + ":" + target + ":" + data));
+        }
+    }
+
+    @Test
+    void firesOnTheDueTick() {
+        TimingWheel wheel = new TimingWheel(8, 4);
+        wheel.schedule(5, 1, 2, 3);
+
+        advance(wheel, 4);
+        assertTrue(fired.isEmpty());
+        advance(wheel, 1);
+        assertEquals(List.of("5:1:2:3"), fired);
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void zeroDelayFiresOnTheNextTick() {
+        TimingWheel wheel = new TimingWheel(8, 4);
+        wheel.schedule(0, 1, 0, 0);
+        advance(wheel, 1);
+        assertEquals(List.of("1:1:0:0"), fired);
+    }
+
+    @Test
+    void delaysLongerThanTheWheelWaitForTheirRounds() {
+        TimingWheel wheel = new TimingWheel(8, 4);
+        wheel.schedule(20, 1, 0, 0);
+        wheel.schedule(8, 2, 0, 0);
+        wheel.schedule(16, 3, 0, 0);
+
+        advance(wheel, 19);
+        assertEquals(List.of("8:2:0:0", "16:3:0:0"), fired);
+        advance(wheel, 1);
+        assertEquals("20:1:0:0", fired.get(2));
+    }
+
+    @Test
+    void timersDueTheSameTickFireOldestFirst() {
+        TimingWheel wheel = new TimingWheel(8, 4);
+        for (int i = 0; i < 5; i++) wheel.schedule(3, 0, i, 0);
+        advance(wheel, 3);
+        assertEquals(List.of("3:0:0:0", "3:0:1:0", "3:0:2:0", "3:0:3:0", "3:0:4:0"), fired);
+    }
+
+    @Test
+    void cancelledTimerDoesNotFire() {
+        TimingWheel wheel = new TimingWheel(8, 4);
+        long handle = wheel.schedule(3, 1, 0, 0);
+        wheel.schedule(3, 2, 0, 0);
+
+        assertTrue(wheel.cancel(handle));
+        assertFalse(wheel.cancel(handle));
+        advance(wheel, 3);
+        assertEquals(List.of("3:2:0:0"), fired);
+    }
+
+    @Test
+    void staleHandleDoesNotCancelTheReusedTimer() {
+        TimingWheel wheel = new TimingWheel(8, 1);
+        long first = wheel.schedule(1, 1, 0, 0);
+        advance(wheel, 1);
+
+        // same pool slot, bag-o nga generation
+        long second = wheel.schedule(2, 2, 0, 0);
+        assertEquals((int) first, (int) second);
+        assertFalse(wheel.cancel(first));
+        advance(wheel, 2);
+        assertEquals(List.of("1:1:0:0", "3:2:0:0"), fired);
+    }
+
+    @Test
+    void handlerCanScheduleAndCancelWhileFiring() {
+        TimingWheel wheel = new TimingWheel(8, 2);
+        long[] victim = new long[1];
+        wheel.schedule(2, 1, 0, 0);
+        victim[0] = wheel.schedule(2, 2, 0, 0);
+
+        for (int i = 0; i < 4; i++) {
+            wheel.advance((type, target, data) -> {
+                fired.add(wheel.getTick() + ":" + type);
+                if (type == 1) {
+                    // due karong tick pero wala pa na fire
+                    assertTrue(wheel.cancel(victim[0]));
+                    wheel.schedule(1, 3, 0, 0);
+                }
+            });
+        }
+        assertEquals(List.of("2:1", "3:3"), fired);
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void poolGrowsPastItsInitialCapacity() {
+        TimingWheel wheel = new TimingWheel(16, 1);
+        for (int i = 0; i < 1000; i++) wheel.schedule(1 + i % 40, 0, i, 0);
+        assertEquals(1000, wheel.getActiveCount());
+        advance(wheel, 40);
+        assertEquals(1000, fired.size());
+        assertEquals(0, wheel.getActiveCount());
+    }
+
+    @Test
+    void clearDropsTimersAndStalesTheirHandles() {
+        TimingWheel wheel = new TimingWheel(8, 4);
+        long handle = wheel.schedule(2, 1, 0, 0);
+        wheel.schedule(5, 2, 0, 0);
+
+        wheel.clear();
+        assertEquals(0, wheel.getActiveCount());
+        assertFalse(wheel.cancel(handle));
+
+        wheel.schedule(1, 3, 0, 0);
+        advance(wheel, 8);
+        assertEquals(List.of("1:3:0:0"), fired);
+    }
+
+    @Test
+    void bucketCountMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(12, 4));
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel(0, 4));
+    }
+}
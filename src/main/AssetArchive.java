@@ -0,0 +1,150 @@
+package main;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+// pre-decoded images gikan sa AssetPacker, gi-map sa memory (FileChannel.map)
+// walay PNG inflate: ang pixels kay premultiplied ARGB na, bulk copy ra ngadto sa DataBufferInt
+// (ang BufferedImage dili ka wrap ug direct buffer, so usa ka memcpy matag image)
+//
+// format (little endian):
+//   int magic "WGPK", int version, int count
+//   count x { short nameLength, byte[] name (UTF-8), int width, int height, long pixelOffset }
+//   pixel blocks, width*height ints matag image, aligned sa DATA_ALIGNMENT
+public class AssetArchive {
+
+    public static final int MAGIC = 0x4B504757; // "WGPK"
+    public static final int VERSION = 1;
+    public static final int DATA_ALIGNMENT = 64;
+
+    static final ColorModel ARGB_PRE = new DirectColorModel(
+            ColorSpace.getInstance(ColorSpace.CS_sRGB), 32,
+            0x00ff0000, 0x0000ff00, 0x000000ff, 0xff000000,
+            true, DataBuffer.TYPE_INT);
+
+    private static class Entry {
+        final int width, height;
+        final long offset;
+
+        Entry(int width, int height, long offset) {
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+        }
+    }
+
+    private final MappedByteBuffer data;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private AssetArchive(MappedByteBuffer data) throws IOException {
+        this.data = data;
+        data.order(ByteOrder.LITTLE_ENDIAN);
+
+        int capacity = data.capacity();
+        if (capacity < 12) throw new IOException("truncated asset archive");
+        if (data.getInt(0) != MAGIC) throw new IOException("not an asset archive");
+        if (data.getInt(4) != VERSION) throw new IOException("unsupported asset archive version " + data.getInt(4));
+
+        // ang guba nga file kay IOException, dili IndexOutOfBounds or NegativeArraySize sa ulahi
+        int count = data.getInt(8);
+        if (count < 0) throw new IOException("bad image count " + count);
+        int pos = 12;
+        for (int i = 0; i < count; i++) {
+            if (pos + 2 > capacity) throw new IOException("truncated asset archive");
+            int nameLength = data.getShort(pos) & 0xffff;
+            pos += 2;
+            if (nameLength == 0 || (long) pos + nameLength + 16 > capacity) {
+                throw new IOException("truncated asset archive");
+            }
+            byte[] name = new byte[nameLength];
+            data.get(pos, name);
+            pos += nameLength;
+
+            int width = data.getInt(pos);
+            int height = data.getInt(pos + 4);
+            long offset = data.getLong(pos + 8);
+            pos += 16;
+
+            if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE / 4) {
+                throw new IOException("bad image size " + width + "x" + height);
+            }
+            if (offset < pos || offset + 4L * width * height > capacity) {
+                throw new IOException("truncated asset archive");
+            }
+            entries.put(new String(name, StandardCharsets.UTF_8), new Entry(width, height, offset));
+        }
+    }
+
+    public static AssetArchive open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // ang mapping mo padayon bisan sirado na ang channel
+            return new AssetArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public boolean contains(String path) {
+        return entries.containsKey(path);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // null kung wala sa archive
+    public Dimension getSize(String path) {
+        Entry entry = entries.get(path);
+        return entry != null ? new Dimension(entry.width, entry.height) : null;
+    }
+
+    // null kung wala sa archive; thread-safe kay absolute reads ra sa shared buffer
+    public BufferedImage getImage(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) return null;
+
+        int[] pixels = new int[entry.width * entry.height];
+        IntBuffer source = data.slice((int) entry.offset, pixels.length * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        source.get(pixels);
+        return wrap(pixels, entry.width, entry.height);
+    }
+
+    // usa ka rectangle ra (clipped sa image), row by row gikan sa mapping; null kung wala or walay overlap
+    public BufferedImage getRegion(String path, Rectangle region) {
+        Entry entry = entries.get(path);
+        if (entry == null) return null;
+        Rectangle clipped = region.intersection(new Rectangle(entry.width, entry.height));
+        if (clipped.isEmpty()) return null;
+
+        int[] pixels = new int[clipped.width * clipped.height];
+        for (int row = 0; row < clipped.height; row++) {
+            long rowOffset = entry.offset + 4L * ((long) (clipped.y + row) * entry.width + clipped.x);
+            data.slice((int) rowOffset, clipped.width * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer()
+                    .get(pixels, row * clipped.width, clipped.width);
+        }
+        return wrap(pixels, clipped.width, clipped.height);
+    }
+
+    private static BufferedImage wrap(int[] pixels, int width, int height) {
+        DataBufferInt buffer = new DataBufferInt(pixels, pixels.length);
+        WritableRaster raster = Raster.createPackedRaster(buffer, width, height, width,
+                new int[]{0x00ff0000, 0x0000ff00, 0x000000ff, 0xff000000}, null);
+        return new BufferedImage(ARGB_PRE, raster, true, null);
+    }
+}
@@ -0,0 +1,234 @@
+package main;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// central nga image loader: ang decode kay sa background (virtual threads), usa ra ka beses matag path
+// ang panels mo kuha ug future; ang GamePanel/SpriteCache mo join ra kung kinahanglan na gyud
+public class AssetLoader {
+
+    // tanan images sa res/, gi-preload sa startup
+    // gawas sa map backgrounds: ang TileMapRenderer mo decode ra sa region sa matag chunk (loadRegion)
+    public static final String[] ALL_IMAGES = {
+            "/menu_bg.png",
+            "/bron_charselect.png", "/abdul_charselect.png", "/jamal_charselect.png",
+            "/npc_jabines.png", "/npc_legaspino.png",
+            "/bron_finalsprite.png", "/abdul_finalsprite.png", "/jamal_finalsprite.png",
+            "/personnel_finalsprite.png", "/security_finalsprite.png",
+            "/chair_finalsprite.png", "/deanboss_finalsprite.png"
+    };
+
+    // pre-decoded archive gikan sa AssetPacker; kung wala, PNG decode gihapon
+    public static final String ARCHIVE_FILE = "assets.pak";
+    // para sa stale check ra; same default sa AssetPacker
+    static final String RES_DIR = "res";
+
+    // gitawag sa background thread; i-invokeLater kung mo hilabot sa Swing
+    public interface ProgressListener {
+        void onProgress(int loaded, int total, String path);
+    }
+
+    private static final AssetLoader SHARED = new AssetLoader();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
+    private final Map<String, Dimension> sizes = new ConcurrentHashMap<>();
+
+    static {
+        // ayaw na mag temp file cache sa ImageIO, in-memory ra ang decode
+        ImageIO.setUseCache(false);
+    }
+
+    public static AssetLoader shared() {
+        return SHARED;
+    }
+
+    // para sa uban background work nga nag depende sa assets (e.g. MapLibrary)
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    // non-blocking; null ang result kung wala ang resource or napakyas ang decode
+    public CompletableFuture<BufferedImage> load(String path) {
+        return images.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> decode(p), executor));
+    }
+
+    // blocking, para sa render path nga kinahanglan na gyud ang pixels
+    public BufferedImage get(String path) {
+        return load(path).join();
+    }
+
+    // null kung wala pa nahuman
+    public BufferedImage getNow(String path) {
+        return load(path).getNow(null);
+    }
+
+    // usa ka rectangle sa image, decoded ra ang kana nga part ug dili cached; null kung wala or napakyas
+    // para sa dagko nga images nga dili dapat resident (map backgrounds)
+    public CompletableFuture<BufferedImage> loadRegion(String path, Rectangle region) {
+        return CompletableFuture.supplyAsync(() -> decode(path, region), executor);
+    }
+
+    // blocking full decode nga dili cached, para sa one-off nga pixel scans (e.g. collision gikan sa art)
+    public BufferedImage decodeUncached(String path) {
+        return decode(path, null);
+    }
+
+    // gikan sa header ra, walay pixel decode; null kung wala ang image
+    public Dimension getSize(String path) {
+        Dimension size = sizes.get(path);
+        if (size == null) {
+            size = readSize(path);
+            if (size != null) sizes.put(path, size);
+        }
+        return size;
+    }
+
+    public CompletableFuture<Void> preloadAll(ProgressListener listener) {
+        AtomicInteger loaded = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[ALL_IMAGES.length];
+        for (int i = 0; i < ALL_IMAGES.length; i++) {
+            String path = ALL_IMAGES[i];
+            futures[i] = load(path).whenComplete((img, error) -> {
+                if (listener != null) {
+                    listener.onProgress(loaded.incrementAndGet(), ALL_IMAGES.length, path);
+                }
+            });
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    // lazy, usa ra ka open bisan daghan threads
+    private static class ArchiveHolder {
+        static final AssetArchive ARCHIVE = openArchive();
+
+        private static AssetArchive openArchive() {
+            Path file = Paths.get(System.getProperty("wildgeons.assets", ARCHIVE_FILE));
+            if (!Files.isRegularFile(file)) return null;
+            try {
+                AssetArchive archive = AssetArchive.open(file);
+                System.out.println("Assets: mapped " + archive.size() + " images from " + file);
+                warnIfStale(file);
+                return archive;
+            } catch (IOException | RuntimeException e) {
+                // bisan unsa nga guba sa pak, balik sa PNGs sa res/ imbes na mamatay ang class init
+                System.err.println("Assets: ignoring " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+
+        // ang archive kay mo override sa res/, so ang na edit nga PNG kay dili makita hangtod i-repack
+        private static void warnIfStale(Path file) {
+            Path resDir = Paths.get(RES_DIR);
+            if (!Files.isDirectory(resDir)) return;
+            try (Stream<Path> files = Files.list(resDir)) {
+                FileTime packed = Files.getLastModifiedTime(file);
+                Path newer = files.filter(p -> p.toString().endsWith(".png"))
+                        .filter(p -> {
+                            try {
+                                return Files.getLastModifiedTime(p).compareTo(packed) > 0;
+                            } catch (IOException e) {
+                                return false;
+                            }
+                        })
+                        .findFirst().orElse(null);
+                if (newer != null) {
+                    System.err.println("Assets: " + file + " is older than " + newer
+                            + "; re-run main.AssetPacker or the edited images will not show");
+                }
+            } catch (IOException e) {
+                // warning ra ni, ayaw i-block ang archive
+            }
+        }
+    }
+
+    private static BufferedImage decode(String path) {
+        return decode(path, null);
+    }
+
+    // region = null para sa tibuok image
+    private static BufferedImage decode(String path, Rectangle region) {
+        AssetArchive archive = ArchiveHolder.ARCHIVE;
+        if (archive != null && archive.contains(path)) {
+            return region == null ? archive.getImage(path) : archive.getRegion(path, region);
+        }
+
+        try (InputStream in = AssetLoader.class.getResourceAsStream(path)) {
+            if (in == null) {
+                System.err.println("Image not found: " + path);
+                return null;
+            }
+            if (region == null) return ImageIO.read(in);
+
+            // ang PNG kay i-inflate gihapon hangtod sa region, pero ang rows ra sa region ang ma allocate
+            try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+                ImageReader reader = firstReader(stream);
+                if (reader == null) return null;
+                try {
+                    Rectangle clipped = region.intersection(new Rectangle(reader.getWidth(0), reader.getHeight(0)));
+                    if (clipped.isEmpty()) return null;
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceRegion(clipped);
+                    return reader.read(0, param);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading image: " + path);
+            return null;
+        }
+    }
+
+    private static Dimension readSize(String path) {
+        AssetArchive archive = ArchiveHolder.ARCHIVE;
+        if (archive != null && archive.contains(path)) {
+            return archive.getSize(path);
+        }
+
+        try (InputStream in = AssetLoader.class.getResourceAsStream(path)) {
+            if (in == null) return null;
+            try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+                ImageReader reader = firstReader(stream);
+                if (reader == null) return null;
+                try {
+                    return new Dimension(reader.getWidth(0), reader.getHeight(0));
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading image: " + path);
+            return null;
+        }
+    }
+
+    // null kung walay reader para ani nga format
+    private static ImageReader firstReader(ImageInputStream stream) {
+        if (stream == null) return null;
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+        if (!readers.hasNext()) return null;
+        ImageReader reader = readers.next();
+        reader.setInput(stream, true, true);
+        return reader;
+    }
+}
@@ -0,0 +1,102 @@
+package main;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.AlphaComposite;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+// build-time tool: res/*.png -> assets.pak (tan-awa ang AssetArchive para sa format)
+// usage: java -cp out main.AssetPacker [resDir] [outFile]
+public class AssetPacker {
+
+    public static void main(String[] args) throws IOException {
+        Path resDir = Paths.get(args.length > 0 ? args[0] : "res");
+        Path outFile = Paths.get(args.length > 1 ? args[1] : AssetLoader.ARCHIVE_FILE);
+
+        List<Path> pngs;
+        try (Stream<Path> files = Files.list(resDir)) {
+            pngs = files.filter(p -> p.getFileName().toString().toLowerCase().endsWith(".png")).sorted().toList();
+        }
+
+        List<String> names = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        for (Path png : pngs) {
+            BufferedImage decoded = ImageIO.read(png.toFile());
+            if (decoded == null) {
+                System.err.println("Skipping (not decodable): " + png);
+                continue;
+            }
+            names.add("/" + png.getFileName());
+            images.add(toPremultiplied(decoded));
+        }
+
+        long written = write(outFile, names, images);
+        System.out.println("Packed " + names.size() + " images into " + outFile.toAbsolutePath() + " (" + written / 1024 + " KiB)");
+    }
+
+    private static BufferedImage toPremultiplied(BufferedImage source) {
+        BufferedImage image = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.drawImage(source, 0, 0, null);
+        g2d.dispose();
+        return image;
+    }
+
+    // i-write sa temp file dayon i-move, para dili ma map sa game ang half-written archive
+    private static long write(Path outFile, List<String> names, List<BufferedImage> images) throws IOException {
+        int headerSize = 12;
+        byte[][] encodedNames = new byte[names.size()][];
+        for (int i = 0; i < names.size(); i++) {
+            encodedNames[i] = names.get(i).getBytes(StandardCharsets.UTF_8);
+            headerSize += 2 + encodedNames[i].length + 16;
+        }
+
+        long[] offsets = new long[images.size()];
+        long position = align(headerSize);
+        for (int i = 0; i < images.size(); i++) {
+            offsets[i] = position;
+            position = align(position + 4L * images.get(i).getWidth() * images.get(i).getHeight());
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(AssetArchive.MAGIC).putInt(AssetArchive.VERSION).putInt(images.size());
+        for (int i = 0; i < images.size(); i++) {
+            header.putShort((short) encodedNames[i].length).put(encodedNames[i]);
+            header.putInt(images.get(i).getWidth()).putInt(images.get(i).getHeight()).putLong(offsets[i]);
+        }
+        header.flip();
+
+        Path tmp = outFile.resolveSibling(outFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header, 0);
+            for (int i = 0; i < images.size(); i++) {
+                int[] pixels = ((DataBufferInt) images.get(i).getRaster().getDataBuffer()).getData();
+                ByteBuffer block = ByteBuffer.allocate(pixels.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+                block.asIntBuffer().put(pixels);
+                channel.write(block, offsets[i]);
+            }
+        }
+        Files.move(tmp, outFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return position;
+    }
+
+    private static long align(long position) {
+        return (position + AssetArchive.DATA_ALIGNMENT - 1) & -AssetArchive.DATA_ALIGNMENT;
+    }
+}
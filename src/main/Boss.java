@@ -1,22 +1,20 @@
 package main;
 
 import java.awt.*;
-import java.util.Random;
 
 
 public class Boss extends GameEntity {
 
-    private final Random random = new Random();
+    // SplitMix64 state (same sa PersonnelStore), para ma save ug ma restore ang patrol
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private long rngState;
     private int moveTimer = 0;
     private int targetDx = 0;
     private int targetDy = 0;
     private final int PATROL_SPEED = 3;
     private final int CHANGE_DIR_INTERVAL = 90;
-
-    private final int MIN_X = 100;
-    private final int MAX_X = 700;
-    private final int MIN_Y = 150;
-    private final int MAX_Y = 500;
+    // mas layo og gukod kaysa sa personnel (FlowField nga lakang)
+    static final int CHASE_RANGE = 30;
 
     private static final int BASE_HP = 1500;
     private static final int BASE_DAMAGE = 200;
@@ -26,20 +24,88 @@ public class Boss extends GameEntity {
         super(x, y, 96, 96, BASE_HP, BASE_DAMAGE, ATTACK_INTERVAL, sprite, null);
     }
 
+    // stats gikan sa MapDefinition
+    public Boss(int x, int y, int size, int hp, int damage, long attackInterval, String name) {
+        super(x, y, size, size, hp, damage, attackInterval, null, name);
+    }
+
+
+    // gawas sa walls sa TileMap, libre siya maglakaw
+    public void update(TileMap map) {
+        patrol(map, 1);
+    }
 
-    public void update(int gameWidth, int gameHeight) {
-        moveTimer++;
+    // ticks > 1: catch-up sa mid-range LOD
+    private void patrol(TileMap map, int ticks) {
+        moveTimer += ticks;
 
         if (moveTimer >= CHANGE_DIR_INTERVAL) {
-            targetDx = random.nextInt(3) - 1;
-            targetDy = random.nextInt(3) - 1;
+            targetDx = nextInt3() - 1;
+            targetDy = nextInt3() - 1;
             moveTimer = 0;
         }
 
-        x += targetDx * PATROL_SPEED;
-        y += targetDy * PATROL_SPEED;
+        int newX = x + targetDx * PATROL_SPEED * ticks;
+        if (map.isBlocked(newX, y, width, height)) {
+            targetDx = -targetDx;
+        } else {
+            x = newX;
+        }
+
+        int newY = y + targetDy * PATROL_SPEED * ticks;
+        if (map.isBlocked(x, newY, width, height)) {
+            targetDy = -targetDy;
+        } else {
+            y = newY;
+        }
+    }
+
+    // gukod sa player gamit ang FlowField nga para sa gidak-on sa boss; patrol kung layo or walay agianan
+    public void update(TileMap map, FlowField field) {
+        update(map, field, 1);
+    }
+
+    public void update(TileMap map, FlowField field, int ticks) {
+        if (field == null || field.distanceAt(x, y) > CHASE_RANGE) {
+            patrol(map, ticks);
+            return;
+        }
+        int next = field.nextCell(x, y);
+        if (next == FlowField.NO_CELL) return;
+
+        int speed = PATROL_SPEED * ticks;
+        int stepX = Math.max(-speed, Math.min(speed, field.cellX(next) - x));
+        int stepY = Math.max(-speed, Math.min(speed, field.cellY(next) - y));
+        targetDx = Integer.signum(stepX);
+        targetDy = Integer.signum(stepY);
+        if (stepX != 0 && !map.isBlocked(x + stepX, y, width, height)) x += stepX;
+        if (stepY != 0 && !map.isBlocked(x, y + stepY, width, height)) y += stepY;
+    }
+
+    // 0, 1, or 2
+    private int nextInt3() {
+        long z = (rngState += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return (int) ((z >>> 1) % 3);
+    }
 
-        x = Math.max(MIN_X, Math.min(x, MAX_X - width));
-        y = Math.max(MIN_Y, Math.min(y, MAX_Y - height));
+    // para sa replays: same seed = same patrol
+    public void setSeed(long seed) {
+        rngState = seed;
     }
-}
\ No newline at end of file
+
+    // para sa SaveGame
+    void restoreMotion(int savedMoveTimer, int savedDx, int savedDy, long savedRng) {
+        moveTimer = savedMoveTimer;
+        targetDx = savedDx;
+        targetDy = savedDy;
+        rngState = savedRng;
+    }
+
+    int getMoveTimer() { return moveTimer; }
+    long getRngState() { return rngState; }
+    int getTargetDx() { return targetDx; }
+    int getTargetDy() { return targetDy; }
+}
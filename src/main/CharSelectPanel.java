@@ -212,21 +212,11 @@ public class CharSelectPanel extends JPanel {
         }
     }
 
+    // async gikan sa AssetLoader; blangko ang card hangtod ma decode
     private void loadCharacterImage(String charName, ImageScalerLabel label) {
         String imageName = charName.toLowerCase() + "_charselect.png";
-        try {
-            java.net.URL imgURL = getClass().getResource("/" + imageName);
-            if (imgURL != null) {
-                ImageIcon icon = new ImageIcon(imgURL);
-                label.setImage(icon.getImage());
-            } else {
-                label.setImage(null);
-                System.err.println("Character image not found: " + imageName);
-            }
-        } catch (Exception e) {
-            label.setImage(null);
-            System.err.println("Error loading image: " + imageName);
-        }
+        AssetLoader.shared().load("/" + imageName).thenAccept(img ->
+                SwingUtilities.invokeLater(() -> label.setImage(img)));
     }
 
     private void updateButtonBorders() {
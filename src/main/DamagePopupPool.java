@@ -0,0 +1,79 @@
+package main;
+
+// fixed-capacity ring buffer sa damage popups, primitive fields ra para walay allocation per hit
+// pareho ang duration sa tanan, so ang oldest kay permi sa head ug ang expiry kay pop from head
+public class DamagePopupPool {
+
+    public static final int DURATION_MS = 1000;
+
+    // index sa popup palette sa renderer
+    public static final int COLOR_PLAYER_HIT = 0;
+    public static final int COLOR_ENEMY_HIT = 1;
+    public static final int COLOR_HEAL = 2;
+
+    private final int capacity;
+    private final int mask;
+
+    private final int[] value;
+    private final int[] x;
+    private final int[] y;
+    private final long[] startTime;
+    private final byte[] colorIndex;
+
+    private int head = 0;
+    private int size = 0;
+    private long overwritten = 0;
+
+    public DamagePopupPool(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.value = new int[capacity];
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.startTime = new long[capacity];
+        this.colorIndex = new byte[capacity];
+    }
+
+    // signed value: negative = damage ("-180"), positive = heal ("+500")
+    // kung puno, ang pinaka-daan ang ma overwrite
+    public void add(int signedValue, int popupX, int popupY, int color, long now) {
+        if (size == capacity) {
+            head = (head + 1) & mask;
+            size--;
+            overwritten++;
+        }
+
+        int slot = (head + size) & mask;
+        value[slot] = signedValue;
+        x[slot] = popupX;
+        y[slot] = popupY;
+        startTime[slot] = now;
+        colorIndex[slot] = (byte) color;
+        size++;
+    }
+
+    public void expire(long now) {
+        while (size > 0 && now - startTime[head] > DURATION_MS) {
+            head = (head + 1) & mask;
+            size--;
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // i = 0 (oldest) .. size-1 (newest)
+    public int size() { return size; }
+    public int capacity() { return capacity; }
+    public long getOverwritten() { return overwritten; }
+    public int getValue(int i) { return value[(head + i) & mask]; }
+    public int getX(int i) { return x[(head + i) & mask]; }
+    public int getY(int i) { return y[(head + i) & mask]; }
+    public long getStartTime(int i) { return startTime[(head + i) & mask]; }
+    public int getColorIndex(int i) { return colorIndex[(head + i) & mask]; }
+}
@@ -0,0 +1,117 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// parser sa among text data files (res/maps.dat, res/skills.dat, bench/scenarios.dat):
+// "# comment", "[header]" mo sugod ug bag-o nga section, dayon "key = value" lines
+// ang errors kay IllegalStateException nga naay file:line
+final class DataFile {
+
+    static final class Section {
+        final String source;
+        final String header;
+        final int line;
+        private final Map<String, String> values = new HashMap<>();
+
+        private Section(String source, String header, int line) {
+            this.source = source;
+            this.header = header;
+            this.line = line;
+        }
+
+        String require(String key) {
+            String value = values.get(key);
+            if (value == null) throw error("[" + header + "] is missing '" + key + "'");
+            return value;
+        }
+
+        String get(String key, String fallback) {
+            return values.getOrDefault(key, fallback);
+        }
+
+        int intValue(String key) {
+            return parseInt(require(key));
+        }
+
+        int intValue(String key, int fallback) {
+            String value = values.get(key);
+            return value == null ? fallback : parseInt(value);
+        }
+
+        // "a | b | c" -> {"a", "b", "c"}
+        String[] fields(String key, int count) {
+            String[] parts = require(key).split("\\|");
+            if (parts.length != count) throw error("'" + key + "' needs " + count + " fields");
+            for (int i = 0; i < parts.length; i++) parts[i] = parts[i].strip();
+            return parts;
+        }
+
+        int parseInt(String text) {
+            try {
+                return Integer.parseInt(text.strip());
+            } catch (NumberFormatException e) {
+                throw error("expected a number, got '" + text.strip() + "'");
+            }
+        }
+
+        IllegalStateException error(String message) {
+            return new IllegalStateException(source + ":" + line + ": " + message);
+        }
+    }
+
+    private DataFile() {
+    }
+
+    // classpath resource, e.g. "/maps.dat"
+    static List<Section> read(String resource) {
+        try (InputStream in = DataFile.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalStateException("Missing data file: " + resource);
+            return parse(resource, new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read data file: " + resource, e);
+        }
+    }
+
+    // file sa disk, e.g. bench/scenarios.dat
+    static List<Section> read(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(file.toString(), reader);
+        }
+    }
+
+    private static List<Section> parse(String source, BufferedReader reader) throws IOException {
+        List<Section> sections = new ArrayList<>();
+        Section section = null;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                section = new Section(source, line.substring(1, line.length() - 1).strip(), lineNumber);
+                sections.add(section);
+                continue;
+            }
+
+            int eq = line.indexOf('=');
+            if (section == null || eq < 0) {
+                throw new IllegalStateException(source + ":" + lineNumber + ": expected [section] or key = value");
+            }
+            section.values.put(line.substring(0, eq).strip(), line.substring(eq + 1).strip());
+        }
+        return sections;
+    }
+}
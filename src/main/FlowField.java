@@ -0,0 +1,127 @@
+package main;
+
+import java.util.Arrays;
+
+// shared nga path para sa tanan kaaway padulong sa player (Dijkstra map / flow field)
+// usa ka BFS gikan sa cell sa player ibabaw sa TileMap, i-recompute ra inig balhin sa player og cell;
+// dayon ang matag kaaway kay usa ra ka lookup matag tick, bisan pila pa sila ka buok
+//
+// cell = top-left tile sa entity; walkable kung ang entity-sized box sa maong tile kay dili blocked,
+// so ang path kay para sa tibuok lawas sa entity, dili lang sa center
+public class FlowField {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    public static final int NO_CELL = -1;
+
+    // 8 directions; ang diagonals kay dili mo putol sa kanto sa wall
+    private static final int[] DC = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DR = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private TileMap map;
+    private int columns, rows, tileSize;
+    private boolean[] walkable = new boolean[0];
+    private int[] distance = new int[0];
+    // ang sunod nga cell padulong sa player, NO_CELL kung naa na or dili maabot
+    private int[] next = new int[0];
+    private int[] queue = new int[0];
+
+    private int targetCell = NO_CELL;
+    private long rebuilds = 0;
+
+    // bag-o nga map: i-precompute kung asa maka agi ang entitySize nga box
+    public void reset(TileMap newMap, int entitySize) {
+        map = newMap;
+        columns = newMap.getColumns();
+        rows = newMap.getRows();
+        tileSize = newMap.getTileSize();
+        int cells = columns * rows;
+        if (walkable.length != cells) {
+            walkable = new boolean[cells];
+            distance = new int[cells];
+            next = new int[cells];
+            queue = new int[cells];
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                walkable[r * columns + c] = !newMap.isBlocked(c * tileSize, r * tileSize, entitySize, entitySize);
+            }
+        }
+        targetCell = NO_CELL;
+    }
+
+    // matag tick; ang BFS kay mo dagan ra kung lahi na ang cell sa player
+    public void update(int targetX, int targetY) {
+        int cell = cellAt(targetX, targetY);
+        if (cell == targetCell) return;
+        targetCell = cell;
+        rebuild();
+    }
+
+    private void rebuild() {
+        rebuilds++;
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(next, NO_CELL);
+
+        // BFS, pareho ang cost sa matag lakang (Dijkstra nga uniform cost)
+        int head = 0, tail = 0;
+        distance[targetCell] = 0;
+        queue[tail++] = targetCell;
+        while (head < tail) {
+            int cell = queue[head++];
+            int c = cell % columns, r = cell / columns;
+            int d = distance[cell] + 1;
+            for (int k = 0; k < 4; k++) {
+                int nc = c + DC[k], nr = r + DR[k];
+                if (nc < 0 || nr < 0 || nc >= columns || nr >= rows) continue;
+                int n = nr * columns + nc;
+                if (!walkable[n] || distance[n] != UNREACHABLE) continue;
+                distance[n] = d;
+                queue[tail++] = n;
+            }
+        }
+
+        // ang pinaka-ubos nga neighbour sa 8 ka direction, para diagonal ang lakaw imbes na hagdan
+        for (int q = 1; q < tail; q++) {
+            int cell = queue[q];
+            int c = cell % columns, r = cell / columns;
+            int best = NO_CELL, bestDistance = distance[cell];
+            for (int k = 0; k < 8; k++) {
+                int nc = c + DC[k], nr = r + DR[k];
+                if (nc < 0 || nr < 0 || nc >= columns || nr >= rows) continue;
+                int n = nr * columns + nc;
+                if (distance[n] >= bestDistance) continue;
+                if (k >= 4 && (!walkable[r * columns + nc] || !walkable[nr * columns + c])) continue;
+                best = n;
+                bestDistance = distance[n];
+            }
+            next[cell] = best;
+        }
+    }
+
+    // cell sa entity nga ang top-left kay (x, y), rounded sa pinaka-duol nga tile
+    public int cellAt(int x, int y) {
+        int c = Math.max(0, Math.min(columns - 1, (x + tileSize / 2) / tileSize));
+        int r = Math.max(0, Math.min(rows - 1, (y + tileSize / 2) / tileSize));
+        return r * columns + c;
+    }
+
+    // ilang ka lakang padulong sa player, UNREACHABLE kung walay agianan
+    public int distanceAt(int x, int y) {
+        return distance[cellAt(x, y)];
+    }
+
+    // sunod nga cell padulong sa player (cellX/cellY para sa pixel); NO_CELL kung naa na or dili maabot
+    public int nextCell(int x, int y) {
+        return next[cellAt(x, y)];
+    }
+
+    public int cellX(int cell) { return cell % columns * tileSize; }
+    public int cellY(int cell) { return cell / columns * tileSize; }
+
+    // mga getters
+    public TileMap getMap() { return map; }
+    public int getTargetCell() { return targetCell; }
+    public long getRebuilds() { return rebuilds; }
+    public int getColumns() { return columns; }
+    public int getRows() { return rows; }
+}
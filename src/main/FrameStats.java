@@ -0,0 +1,213 @@
+package main;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+// per-frame timings sa game loop: rolling window para sa p50/p95/p99/max, plus optional CSV recording
+// recordFrame() kay gikan ra sa game thread; ang overlay mo basa lang sa immutable Summary
+public class FrameStats {
+
+    public static final int WINDOW = 600; // ~10s at 60 fps
+    private static final int SUMMARY_INTERVAL = 30;
+    public static final int MAX_RECORDED_FRAMES = 60 * 60 * 10; // 10 minutes at 60 fps
+
+    private final long[] updateNanos = new long[WINDOW];
+    private final long[] paintNanos = new long[WINDOW];
+    private final long[] sleepNanos = new long[WINDOW];
+    private final long[] frameNanos = new long[WINDOW];
+    private final long[] scratch = new long[WINDOW];
+    private int index = 0;
+    private int count = 0;
+
+    // key-to-photon, sa frames ra nga naay input
+    private final long[] inputNanos = new long[WINDOW];
+    private int inputIndex = 0;
+    private int inputCount = 0;
+    private int framesSinceSummary = 0;
+
+    // per-second counters
+    private long secondStart = 0;
+    private int framesThisSecond = 0;
+    private int ticksThisSecond = 0;
+    private int fps = 0;
+    private int tps = 0;
+
+    private volatile Summary summary = Summary.EMPTY;
+
+    // CSV recording, preallocated para walay allocation samtang nag record
+    private volatile boolean recording = false;
+    private volatile boolean toggleRequested = false;
+    private long[][] recorded;
+    private int recordedCount = 0;
+
+    public static class Percentiles {
+        final long p50, p95, p99, max;
+
+        Percentiles(long p50, long p95, long p99, long max) {
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+
+    public static class Summary {
+        static final Summary EMPTY = new Summary(0, 0, 0, 0, null, null, null, null, null);
+
+        final int fps, tps, entities, popups;
+        final Percentiles update, paint, sleep, frame;
+        // null kung wala pay input nga na sukod
+        final Percentiles input;
+
+        Summary(int fps, int tps, int entities, int popups,
+                Percentiles update, Percentiles paint, Percentiles sleep, Percentiles frame, Percentiles input) {
+            this.fps = fps;
+            this.tps = tps;
+            this.entities = entities;
+            this.popups = popups;
+            this.update = update;
+            this.paint = paint;
+            this.sleep = sleep;
+            this.frame = frame;
+            this.input = input;
+        }
+    }
+
+    // inputLatency = key-to-photon nanos sa pinaka-daan nga event nga na present ani nga frame, 0 kung wala
+    public void recordFrame(long frameStart, long update, long paint, long sleep, long frame,
+                            int ticks, int entities, int popups, long inputLatency) {
+        updateNanos[index] = update;
+        paintNanos[index] = paint;
+        sleepNanos[index] = sleep;
+        frameNanos[index] = frame;
+        index = (index + 1) % WINDOW;
+        if (count < WINDOW) count++;
+
+        if (inputLatency > 0) {
+            inputNanos[inputIndex] = inputLatency;
+            inputIndex = (inputIndex + 1) % WINDOW;
+            if (inputCount < WINDOW) inputCount++;
+        }
+
+        framesThisSecond++;
+        ticksThisSecond += ticks;
+        if (frameStart - secondStart >= 1_000_000_000L) {
+            fps = framesThisSecond;
+            tps = ticksThisSecond;
+            framesThisSecond = 0;
+            ticksThisSecond = 0;
+            secondStart = frameStart;
+        }
+
+        if (toggleRequested) {
+            toggleRequested = false;
+            if (recording) stopRecording(); else startRecording();
+        }
+
+        if (recording) {
+            if (recordedCount < MAX_RECORDED_FRAMES) {
+                int r = recordedCount++;
+                recorded[0][r] = frameStart;
+                recorded[1][r] = update;
+                recorded[2][r] = paint;
+                recorded[3][r] = sleep;
+                recorded[4][r] = frame;
+                recorded[5][r] = ticks;
+                recorded[6][r] = entities;
+                recorded[7][r] = popups;
+                recorded[8][r] = inputLatency;
+            } else {
+                stopRecording();
+            }
+        }
+
+        if (++framesSinceSummary >= SUMMARY_INTERVAL) {
+            framesSinceSummary = 0;
+            summary = new Summary(fps, tps, entities, popups,
+                    percentiles(updateNanos, count), percentiles(paintNanos, count), percentiles(sleepNanos, count),
+                    percentiles(frameNanos, count), inputCount > 0 ? percentiles(inputNanos, inputCount) : null);
+        }
+    }
+
+    public Summary getSummary() {
+        return summary;
+    }
+
+    private Percentiles percentiles(long[] samples, int n) {
+        System.arraycopy(samples, 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        return new Percentiles(at(0.50, n), at(0.95, n), at(0.99, n), n > 0 ? scratch[n - 1] : 0);
+    }
+
+    private long at(double quantile, int n) {
+        if (n == 0) return 0;
+        return scratch[Math.min(n - 1, (int) Math.ceil(quantile * n) - 1)];
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    // gikan sa EDT (F4); ang game thread ang mo start/stop sa next recordFrame()
+    public void requestToggleRecording() {
+        toggleRequested = true;
+    }
+
+    // allocate sa pag start ra, dili samtang nag record
+    private void startRecording() {
+        if (recording) return;
+        if (recorded == null) {
+            recorded = new long[9][MAX_RECORDED_FRAMES];
+        }
+        recordedCount = 0;
+        recording = true;
+        System.out.println("Frame stats: recording started");
+    }
+
+    // i-write sa background thread para walay hitch sa game loop; game thread ra
+    public void stopRecording() {
+        if (!recording) return;
+        recording = false;
+
+        int frames = recordedCount;
+        long[][] copy = new long[recorded.length][];
+        for (int c = 0; c < recorded.length; c++) {
+            copy[c] = Arrays.copyOf(recorded[c], frames);
+        }
+
+        Path path = Paths.get("frames-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        Thread writer = new Thread(() -> writeCsv(path, copy, frames), "frame-stats-csv");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private static void writeCsv(Path path, long[][] columns, int frames) {
+        try (BufferedWriter out = Files.newBufferedWriter(path)) {
+            out.write("frame,time_ms,update_us,paint_us,sleep_us,frame_us,ticks,entities,popups,input_us");
+            out.newLine();
+            long start = frames > 0 ? columns[0][0] : 0;
+            for (int i = 0; i < frames; i++) {
+                out.write(i + ","
+                        + (columns[0][i] - start) / 1_000_000.0 + ","
+                        + columns[1][i] / 1000.0 + ","
+                        + columns[2][i] / 1000.0 + ","
+                        + columns[3][i] / 1000.0 + ","
+                        + columns[4][i] / 1000.0 + ","
+                        + columns[5][i] + ","
+                        + columns[6][i] + ","
+                        + columns[7][i] + ","
+                        + columns[8][i] / 1000.0);
+                out.newLine();
+            }
+            System.out.println("Frame stats: wrote " + frames + " frames to " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Frame stats: could not write " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package main;
+
+// deterministic game time: mo advance ra kada tick, dili wall clock
+// ang cooldowns (ms) sa README kay same ra gihapon kay 60 ticks = 1000 ms at scale 1.0
+public class GameClock {
+
+    public static final int TICKS_PER_SECOND = 60;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // game time sa nanos * TICKS_PER_SECOND, para exact ang 1/60 s nga tick (walay truncation matag tick)
+    private long scaledNanos = 0;
+    private volatile long nowNanos = 0;
+    private long tick = 0;
+    private volatile boolean paused = false;
+    private volatile double timeScale = 1.0;
+
+    // returns false kung paused, para ma skip sa caller ang tick
+    public boolean advance() {
+        if (paused) return false;
+        tick++;
+        scaledNanos += Math.round(NANOS_PER_SECOND * timeScale);
+        nowNanos = scaledNanos / TICKS_PER_SECOND;
+        return true;
+    }
+
+    public void reset() {
+        scaledNanos = 0;
+        nowNanos = 0;
+        tick = 0;
+    }
+
+    // gikan sa SaveGame, para ang cooldowns ug lastAttackTime magkatugma gihapon
+    void restore(long savedTick, long savedNowNanos) {
+        tick = savedTick;
+        nowNanos = savedNowNanos;
+        // kung scale 1.0 ra permi, exact gihapon; kung dili, ang remainder (< 1 ns) kay mawala
+        long exact = savedTick * NANOS_PER_SECOND;
+        scaledNanos = exact / TICKS_PER_SECOND == savedNowNanos ? exact : savedNowNanos * TICKS_PER_SECOND;
+    }
+
+    public long nowMillis() {
+        return nowNanos / 1_000_000L;
+    }
+
+    public long nowNanos() {
+        return nowNanos;
+    }
+
+    // ilang ka ticks ang game ms sa karon nga time scale, rounded up; para sa TimingWheel delays
+    public long ticksFor(long millis) {
+        return (long) Math.ceil(millis * TICKS_PER_SECOND / 1000.0 / timeScale);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    // game time per tick; 2.0 = cooldowns matapos sa half the ticks
+    public void setTimeScale(double timeScale) {
+        if (timeScale <= 0) {
+            throw new IllegalArgumentException("timeScale must be positive: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+}
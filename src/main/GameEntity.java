@@ -13,7 +13,10 @@ public class GameEntity implements IDrawableEntity, IGameEntity {
     protected Image sprite;
     protected String playerName;
 
-    protected long lastAttackTime = 0;
+    // "never attacked", para maka attack dayon bisan sa game time 0
+    public static final long NEVER = Long.MIN_VALUE / 4;
+
+    protected long lastAttackTime = NEVER;
     protected long attackIntervalMs;
 
     public GameEntity(int x, int y, int width, int height, int hp, int damage, long attackIntervalMs, Image sprite, String playerName) {
@@ -36,17 +39,41 @@ public class GameEntity implements IDrawableEntity, IGameEntity {
     }
 
     public void draw(Graphics g, JComponent observer) {
+        drawSprite(g, observer, sprite, x, y, width, height);
+    }
+
+    public void drawHealthBar(Graphics2D g2d, String name) {
+        if (hp <= 0) return;
+        drawBar(g2d, x, y, width, hp, maxHP);
+
+        g2d.setFont(HudLayer.NAME_FONT);
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(name, x, y + height + 12);
+    }
+
+    // static versions para sa entities nga walay object (PersonnelStore)
+    static void drawSprite(Graphics g, JComponent observer, Image sprite, int x, int y, int width, int height) {
         if (sprite != null) {
-            g.drawImage(sprite, x, y, width, height, observer);
+            // pre-scaled gikan sa SpriteCache: unscaled blit
+            if (sprite.getWidth(null) == width && sprite.getHeight(null) == height) {
+                g.drawImage(sprite, x, y, observer);
+            } else {
+                g.drawImage(sprite, x, y, width, height, observer);
+            }
         } else {
             g.setColor(Color.MAGENTA);
             g.fillRect(x, y, width, height);
         }
     }
 
-    public void drawHealthBar(Graphics2D g2d, String name) {
+    // same sa drawHealthBar pero ang name kay pre-rendered gikan sa HudLayer
+    static void drawHealthBar(Graphics2D g2d, HudLayer.NameLabel label, int x, int y, int width, int height, int hp, int maxHP) {
         if (hp <= 0) return;
+        drawBar(g2d, x, y, width, hp, maxHP);
+        g2d.drawImage(label.image, x, y + height + 12 - label.ascent, null);
+    }
 
+    private static void drawBar(Graphics2D g2d, int x, int y, int width, int hp, int maxHP) {
         int barWidth = width;
         int barHeight = 4;
         double hpRatio = (double)hp / maxHP;
@@ -62,18 +89,36 @@ public class GameEntity implements IDrawableEntity, IGameEntity {
 
         g2d.setColor(Color.WHITE);
         g2d.drawRect(x, y - barHeight - 2, barWidth, barHeight);
-
-        g2d.setFont(new Font("Monospaced", Font.BOLD, 10));
-        g2d.setColor(Color.WHITE);
-        g2d.drawString(name, x, y + height + 12);
     }
 
+    // compatibility ra, gamita ang intersects()/contains() sa game loop
     public Rectangle getBounds() {
         return new Rectangle(x, y, width, height);
     }
 
-    public boolean canAttack() {
-        return System.currentTimeMillis() - lastAttackTime >= attackIntervalMs;
+    public boolean intersects(int otherX, int otherY, int otherWidth, int otherHeight) {
+        if (width <= 0 || height <= 0 || otherWidth <= 0 || otherHeight <= 0) return false;
+        return otherX < x + width && x < otherX + otherWidth
+                && otherY < y + height && y < otherY + otherHeight;
+    }
+
+    public boolean intersects(IGameEntity other) {
+        return intersects(other.getX(), other.getY(), other.getWidth(), other.getHeight());
+    }
+
+    public boolean contains(int px, int py) {
+        return px >= x && py >= y && px < x + width && py < y + height;
+    }
+
+    public boolean contains(int otherX, int otherY, int otherWidth, int otherHeight) {
+        if (width <= 0 || height <= 0 || otherWidth <= 0 || otherHeight <= 0) return false;
+        return otherX >= x && otherY >= y
+                && otherX + otherWidth <= x + width && otherY + otherHeight <= y + height;
+    }
+
+    // currentTime = GameClock.nowMillis()
+    public boolean canAttack(long currentTime) {
+        return currentTime - lastAttackTime >= attackIntervalMs;
     }
 
     public void attack(long currentTime) {
@@ -130,4 +175,12 @@ public class GameEntity implements IDrawableEntity, IGameEntity {
     public void takeDamage(int damage) {
         this.hp -= damage;
     }
+
+    // gikan sa SaveGame
+    void restore(int savedX, int savedY, int savedHP, long savedLastAttackTime) {
+        x = savedX;
+        y = savedY;
+        hp = savedHP;
+        lastAttackTime = savedLastAttackTime;
+    }
 }
\ No newline at end of file
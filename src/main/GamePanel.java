@@ -4,73 +4,95 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class GamePanel extends JPanel implements Runnable, KeyListener {
 
     // 60fps shit
     private static final int TARGET_FPS = 60;
 
-    public enum GamePhase { PHASE_PERSONNEL, PHASE_BOSS, MAP_CLEARED, GAME_OVER }
-    private GamePhase currentPhase = GamePhase.PHASE_PERSONNEL;
+    private final GameSimulation simulation = new GameSimulation(800, 600);
 
-    private final int PLAYER_DISPLAY_SIZE = 64;
-    private final int PLAYER_SPEED = 4;
-    private final int BOSS_SIZE = 96;
-    private final int ENEMY_SIZE = 64;
-    private final int HUD_HEIGHT = 60;
-
-    private boolean upPressed, downPressed, leftPressed, rightPressed = false;
-    private boolean isAttacking = false;
+    // ang renderer mo basa ra sa snapshot, dili sa simulation mismo (game thread ra ang mo hilabot sa simulation)
+    private final RenderSnapshotBuffer snapshots = new RenderSnapshotBuffer();
+    // usa ra ka reader sa snapshots at a time: ang EDT (repaint) or ang game thread (active rendering);
+    // sa F2 switch pwede sila mag dungan, so ang acquire hangtod human sa render kay sulod ani nga lock
+    private final Object snapshotReader = new Object();
 
     private Thread gameThread;
+
+    // autosave matag 30 s sa game time, ug inig human sa map or game over
+    public static final long AUTOSAVE_TICKS = 30L * GameClock.TICKS_PER_SECOND;
+    private long nextAutosaveTick = AUTOSAVE_TICKS;
     private volatile boolean isRunning = false;
 
-    // ang entities
-    private GameEntity player;
-    private GameEntity boss;
-    private List<Personnel> personnelList = new ArrayList<>();
-
-    // mga stats
-    private final int MAX_HP = 1500;
-    private final int MAX_MANA = 500;
-    private int currentHP = MAX_HP;
-    private int currentMana = MAX_MANA;
-    private final long ATTACK_COOLDOWN_MS = 4000;
-    private final int BITS_MANA_COST = 30;
-    private final int BITS_DAMAGE = 180;
-    private long attackStartTime = 0;
-    private final long ATTACK_DURATION_MS = 200;
-    private long bossAttackStartTime = 0;
-
-    // display damage
-    private static class DamagePopup {
-        final String text;
-        final int x, y;
-        final long startTime;
-        final Color color;
-        final int duration = 1000;
-
-        public DamagePopup(String text, int x, int y, Color color) {
-            this.text = text;
-            this.x = x;
-            this.y = y;
-            this.startTime = System.currentTimeMillis();
-            this.color = color;
-        }
-    }
-    private List<DamagePopup> popups = new ArrayList<>();
+    // replay playback: ang keyboard kay dili mo hilabot sa simulation, ang cursor ang mo feed sa input
+    private volatile Replay.Cursor replayCursor;
+    // ticks matag frame
+    private volatile int replaySpeed = 1;
+    private volatile boolean replayFinished = false;
+    public static final int MAX_REPLAY_SPEED = 128;
+
+    // ScenarioRunner: ang loop mo render sa BufferedImage, walay sleep, usa ka tick matag frame,
+    // ug walay saves or replays nga ma sulat
+    interface OffscreenHooks {
+        // game thread, sa dili pa ang matag tick (scripted input)
+        void beforeTick(GameSimulation simulation);
+        // game thread, human sa matag frame (tick + snapshot + render)
+        void afterFrame(long frameNanos);
+    }
+
+    private volatile OffscreenHooks offscreenHooks;
+    private Graphics2D offscreenGraphics;
+    private int offscreenWidth, offscreenHeight;
+
+    // active rendering: ang game thread na mismo mo draw sa canvas, dili na mo agi sa repaint()/EDT
+    private volatile boolean activeRendering = Boolean.getBoolean("wildgeons.activeRendering");
+    private volatile boolean activeSurfaceReady = false;
+    private Canvas renderCanvas;
+
+    // F3 = overlay, F4 = start/stop CSV recording sa per-frame samples
+    private final FrameStats frameStats = new FrameStats();
+    private volatile boolean showFrameStats = false;
+    private volatile long lastPaintNanos = 0;
+    // key-to-photon: gi-set sa renderer human ma present, kuhaon sa game loop para sa frameStats
+    private final AtomicLong pendingInputLatency = new AtomicLong();
+    private long lastPresentedSequence = 0;
+    private static final Font STATS_FONT = new Font("Monospaced", Font.PLAIN, 12);
+    private static final Color STATS_BACKGROUND = new Color(0, 0, 0, 170);
 
     // mga picture
-    private final Map<String, Image> assetCache = new ConcurrentHashMap<>();
-
-    private final String MAP_BG_PATH = "/map1_bg.png";
-    private final String BOSS_PATH = "/chair_finalsprite.png";
-    private final String PERSONNEL_PATH = "/personnel_finalsprite.png";
+    private final SpriteCache spriteCache = new SpriteCache();
+
+    // resolved gikan sa spriteCache, i-refresh kung mausab ang generation or character
+    private int spriteGeneration = -1;
+    private String spriteCharacter;
+    private MapDefinition spriteMap;
+    private Image playerSprite, bossSprite, personnelSprite;
+
+    // pre-rendered nga bola matag ProjectilePool team, para drawImage ra matag projectile
+    private final BufferedImage[] projectileSprites = new BufferedImage[2];
+    private GraphicsConfiguration projectileConfig;
+    private String projectileCharacter;
+    private static final Color HOSTILE_PROJECTILE_COLOR = new Color(255, 120, 40);
+
+    // world background + collision debug (F6), chunked sa palibot sa camera
+    private final TileMapRenderer tileMapRenderer = new TileMapRenderer();
+    private volatile boolean showCollision = false;
+    private static final Color VOID_COLOR = new Color(30, 30, 30);
+    // extra space para sa health bar ug name label sa culling
+    private static final int CULL_MARGIN = 24;
+
+    private final HudLayer hudLayer = new HudLayer();
+    private static final Font MESSAGE_FONT = new Font("Consolas", Font.BOLD, 60);
+
+    // palette index = DamagePopupPool.COLOR_*
+    private final GlyphAtlas popupGlyphs = new GlyphAtlas(new Font("Consolas", Font.BOLD, 16),
+            Color.RED.brighter(), Color.YELLOW, Color.GREEN);
 
     private final Map<String, String> PLAYER_SPRITE_PATHS = Map.of(
             "Bron", "/bron_finalsprite.png",
@@ -87,25 +109,79 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
     // flow sa ui
     private JButton flowButton;
 
-    private Image loadAsset(String path) {
-        if (assetCache.containsKey(path)) return assetCache.get(path);
-        try {
-            java.net.URL url = getClass().getResource(path);
-            if (url != null) {
-                Image img = new ImageIcon(url).getImage();
-                assetCache.put(path, img);
-                return img;
-            }
-        } catch (Exception e) { }
-        return null;
-    }
-
     public GamePanel() {
         setLayout(null);
         loadStaticAssets();
         setFocusable(true);
         addKeyListener(this);
         initFlowButton();
+        simulation.setMapClearedListener(this::onMapCleared);
+        simulation.setBossAppearedListener(this::onBossAppeared);
+        if (activeRendering) {
+            initRenderCanvas();
+        }
+    }
+
+    private void initRenderCanvas() {
+        if (renderCanvas != null) return;
+
+        renderCanvas = new Canvas();
+        renderCanvas.setIgnoreRepaint(true);
+        renderCanvas.setFocusable(false);
+        renderCanvas.addKeyListener(this);
+        renderCanvas.setBounds(0, 0, getWidth(), getHeight());
+        renderCanvas.setVisible(false);
+        add(renderCanvas);
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    public boolean isActiveRendering() {
+        return activeRendering;
+    }
+
+    // runtime switch between repaint() and the BufferStrategy canvas, call sa EDT
+    public void setActiveRendering(boolean enabled) {
+        activeRendering = enabled;
+        if (enabled) {
+            initRenderCanvas();
+        }
+        syncRenderSurface();
+        repaint();
+    }
+
+    // ang canvas kay heavyweight, so matabunan niya ang flowButton; balik sa repaint() kung visible ang button
+    private void syncRenderSurface() {
+        if (renderCanvas == null) return;
+
+        boolean useCanvas = activeRendering && !flowButton.isVisible();
+        renderCanvas.setVisible(useCanvas);
+        if (useCanvas && renderCanvas.isDisplayable() && renderCanvas.getBufferStrategy() == null) {
+            renderCanvas.createBufferStrategy(2);
+        }
+        activeSurfaceReady = useCanvas && renderCanvas.getBufferStrategy() != null;
+    }
+
+    @Override
+    public void doLayout() {
+        super.doLayout();
+        if (renderCanvas != null) {
+            renderCanvas.setBounds(0, 0, getWidth(), getHeight());
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        syncRenderSurface();
+    }
+
+    @Override
+    public void removeNotify() {
+        activeSurfaceReady = false;
+        super.removeNotify();
     }
 
     private void initFlowButton() {
@@ -122,6 +198,7 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
 
         flowButton.addActionListener(e -> {
             stopGameLoop();
+            replayCursor = null;
             if (SwingUtilities.getWindowAncestor(this) instanceof MainGameDriver driver) {
                 driver.changeState(MainGameDriver.GameState.MENU);
             }
@@ -130,68 +207,116 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
         add(flowButton);
     }
 
+    // decode sa background lang daan; ang scaling mahitabo sa first frame kay kinahanglan ang GraphicsConfiguration
     private void loadStaticAssets() {
-        loadAsset(MAP_BG_PATH);
-        loadAsset(BOSS_PATH);
-        loadAsset(PERSONNEL_PATH);
         for(String path : PLAYER_SPRITE_PATHS.values()) {
-            loadAsset(path);
+            spriteCache.preload(path);
         }
     }
 
+    // enemy ug boss sprites kay depende sa map
+    private void resolveSprites(String charName, MapDefinition map) {
+        if (spriteGeneration == spriteCache.getGeneration() && charName.equals(spriteCharacter) && map == spriteMap) return;
+
+        playerSprite = spriteCache.getSprite(PLAYER_SPRITE_PATHS.getOrDefault(charName, "/bron_finalsprite.png"),
+                GameSimulation.PLAYER_DISPLAY_SIZE, GameSimulation.PLAYER_DISPLAY_SIZE);
+        bossSprite = spriteCache.getSprite(map.bossSprite, map.bossSize, map.bossSize);
+        personnelSprite = spriteCache.getSprite(map.enemySprite, PersonnelStore.SIZE, PersonnelStore.SIZE);
+
+        spriteGeneration = spriteCache.getGeneration();
+        spriteCharacter = charName;
+        spriteMap = map;
+    }
+
 
     public void setPlayerCharacter(String charName) {
-        currentHP = MAX_HP;
-        currentMana = MAX_MANA;
-        currentPhase = GamePhase.PHASE_PERSONNEL;
+        startMap(charName, 1);
+    }
 
-        popups.clear();
+    public void startMap(String charName, int mapNumber) {
         flowButton.setVisible(false);
-        bossAttackStartTime = 0;
+        syncRenderSurface();
 
-        Image playerImg = loadAsset(PLAYER_SPRITE_PATHS.getOrDefault(charName, "/bron_finalsprite.png"));
+        // ang Map 1 kay permi bag-o nga run; ang sunod nga maps kay mo dala sa rewards
+        if (mapNumber == 1 || !charName.equals(simulation.getProgress().getCharacter())) {
+            simulation.resetProgress(charName);
+        }
+        simulation.loadMap(MapLibrary.shared().get(mapNumber));
+        simulation.newGame(charName);
+        simulation.startRecording();
+        replayCursor = null;
+        nextAutosaveTick = AUTOSAVE_TICKS;
+        // wala pa nag dagan ang game thread diri, so safe pa mag publish gikan sa EDT
+        publishSnapshot();
+    }
 
-        player = new GameEntity(
-                400 - PLAYER_DISPLAY_SIZE / 2,
-                300 - PLAYER_DISPLAY_SIZE / 2,
-                PLAYER_DISPLAY_SIZE,
-                PLAYER_DISPLAY_SIZE,
-                MAX_HP,
-                BITS_DAMAGE,
-                ATTACK_COOLDOWN_MS,
-                playerImg,
-                charName
-        );
+    // gikan sa MENU CONTINUE; same sa startMap pero ang state gikan sa save
+    public void resumeSave(SaveGame save) {
+        flowButton.setVisible(false);
+        syncRenderSurface();
+
+        simulation.loadMap(MapLibrary.shared().get(save.getMapNumber()));
+        simulation.restore(save);
+        // ang replay kay gikan ra sa sugod sa map
+        if (!save.isLive()) simulation.startRecording();
+        replayCursor = null;
+        nextAutosaveTick = simulation.getTickCount() + AUTOSAVE_TICKS;
+        publishSnapshot();
+    }
 
-        boss = new Boss(600, 150, assetCache.get(BOSS_PATH));
+    // human sa startMap(); ang ScenarioRunner ang mo stopGameLoop()
+    void startOffscreen(BufferedImage surface, OffscreenHooks hooks) {
+        offscreenGraphics = surface.createGraphics();
+        offscreenWidth = surface.getWidth();
+        offscreenHeight = surface.getHeight();
+        offscreenHooks = hooks;
+        startGameLoop();
+    }
 
-        initializePersonnel();
+    // speed = ticks matag frame (1 = real time)
+    public void playReplay(Replay replay, int speed) {
+        flowButton.setVisible(false);
+        syncRenderSurface();
+
+        simulation.startReplay(replay);
+        replaySpeed = Math.max(1, speed);
+        replayFinished = false;
+        replayCursor = replay.cursor();
+        publishSnapshot();
     }
 
-    private void initializePersonnel() {
-        personnelList.clear();
-        personnelList.add(new Personnel(100, 100, assetCache.get(PERSONNEL_PATH)));
-        personnelList.add(new Personnel(550, 450, assetCache.get(PERSONNEL_PATH)));
-        personnelList.add(new Personnel(150, 400, assetCache.get(PERSONNEL_PATH)));
+    public boolean isReplaying() {
+        return replayCursor != null;
     }
 
-    private void switchPhase() {
-        if (currentPhase == GamePhase.PHASE_PERSONNEL && personnelList.isEmpty()) {
-            currentPhase = GamePhase.PHASE_BOSS;
-            currentHP = MAX_HP;
-            currentMana = MAX_MANA;
-            System.out.println("--- PHASE SWITCHED! BOSS (Chair Pantaleon) HAS APPEARED! ---");
-        } else if (currentPhase == GamePhase.PHASE_BOSS && boss != null && boss.getHP() <= 0) {
-            currentPhase = GamePhase.MAP_CLEARED;
+    // game thread ra (or kung wala nag dagan ang game loop); ang encode ug IO kay sa SaveManager thread
+    void saveGame() {
+        if (simulation.getPlayer() == null || replayCursor != null || offscreenHooks != null) return;
+        SaveManager.shared().submit(SaveGame.capture(simulation));
+        nextAutosaveTick = simulation.getTickCount() + AUTOSAVE_TICKS;
+    }
 
-            boss = null;
+    // game thread ra (or bisan unsa nga thread kung wala nag dagan ang game loop)
+    void publishSnapshot() {
+        snapshots.publish(simulation);
+    }
 
-            if (SwingUtilities.getWindowAncestor(this) instanceof MainGameDriver driver) {
-                SwingUtilities.invokeLater(() -> driver.showMapCleared(player.getPlayerName(), 1));
-            }
-        }
+    // gikan sa game thread; ang replay ug ang offscreen runs kay hilom
+    private void onBossAppeared() {
+        if (replayCursor != null || offscreenHooks != null) return;
+        System.out.println("--- PHASE SWITCHED! BOSS " + simulation.getMapDefinition().bossName + " HAS APPEARED! ---");
     }
 
+    // gikan sa game thread, so i-invokeLater para sa driver
+    private void onMapCleared() {
+        // replay: walay story, ang flow button ra
+        if (replayCursor != null) return;
+        if (SwingUtilities.getWindowAncestor(this) instanceof MainGameDriver driver) {
+            GameEntity player = simulation.getPlayer();
+            int mapNumber = simulation.getMapDefinition().getNumber();
+            SwingUtilities.invokeLater(() -> driver.showMapCleared(player.getPlayerName(), mapNumber));
+        }
+    }
 
     public void startGameLoop() {
         if (!isRunning) {
@@ -209,11 +334,29 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
+            // patay na ang game thread, so safe mag capture diri
+            saveGame();
+            // gamay ra, so diretso na lang (basin mo exit dayon ang JVM)
+            Replay replay = simulation.stopRecording();
+            if (replay != null && offscreenHooks == null) {
+                try {
+                    replay.write(Replay.defaultFile(replay.getMapNumber()));
+                } catch (IOException e) {
+                    System.err.println("Replay: could not write: " + e.getMessage());
+                }
+            }
+            offscreenHooks = null;
+            gameThread = null;
         }
     }
 
     @Override
     public void run() {
+        if (offscreenHooks != null) {
+            runOffscreen(offscreenHooks);
+            return;
+        }
+
         final double NANO_PER_UPDATE = 1_000_000_000.0 / TARGET_FPS;
         long lastTime = System.nanoTime();
         double delta = 0;
@@ -223,16 +366,31 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
             delta += (now - lastTime) / NANO_PER_UPDATE;
             lastTime = now;
 
+            int ticks = 0;
             while (delta >= 1) {
                 updateGameLogic();
                 delta--;
+                ticks++;
+            }
+            if (ticks > 0) {
+                publishSnapshot();
+            }
+            long updateEnd = System.nanoTime();
+
+            long paintNanos;
+            if (activeRendering && activeSurfaceReady) {
+                renderActiveFrame();
+                paintNanos = System.nanoTime() - updateEnd;
+            } else {
+                repaint();
+                // sa EDT mahitabo ang paint, so ang last nga na measure sa paintComponent
+                paintNanos = lastPaintNanos;
             }
-
-            repaint();
 
             long timeTaken = System.nanoTime() - now;
             long sleepTime = (long)(NANO_PER_UPDATE - timeTaken) / 1_000_000;
 
+            long sleepStart = System.nanoTime();
             if (sleepTime > 0) {
                 try {
                     Thread.sleep(sleepTime);
@@ -242,183 +400,262 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
             } else if (sleepTime < -5) {
                 Thread.yield();
             }
+            long frameEnd = System.nanoTime();
+
+            frameStats.recordFrame(now, updateEnd - now, paintNanos, frameEnd - sleepStart, frameEnd - now,
+                    ticks, countEntities(), simulation.getPopups().size(), pendingInputLatency.getAndSet(0));
         }
+        frameStats.stopRecording();
     }
 
 
-    private void updateGameLogic() {
-        switchPhase();
+    // same sa run() pero flat out: tick, publish, render sa offscreen surface
+    private void runOffscreen(OffscreenHooks hooks) {
+        try {
+            while (isRunning) {
+                long now = System.nanoTime();
+                hooks.beforeTick(simulation);
+                updateGameLogic();
+                publishSnapshot();
+                long updateEnd = System.nanoTime();
+
+                renderFrame(offscreenGraphics, offscreenWidth, offscreenHeight);
+                long frameEnd = System.nanoTime();
+
+                frameStats.recordFrame(now, updateEnd - now, frameEnd - updateEnd, 0, frameEnd - now,
+                        1, countEntities(), simulation.getPopups().size(), 0);
+                hooks.afterFrame(frameEnd - now);
+            }
+        } finally {
+            offscreenGraphics.dispose();
+        }
+    }
 
-        if (currentPhase == GamePhase.GAME_OVER || currentPhase == GamePhase.MAP_CLEARED) {
+    private int countEntities() {
+        if (simulation.getPlayer() == null) return 0;
+        return 1 + simulation.getPersonnel().size() + (simulation.getBoss() != null ? 1 : 0);
+    }
+
+    private void updateGameLogic() {
+        Replay.Cursor cursor = replayCursor;
+        if (cursor != null) {
+            stepReplay(cursor);
             return;
         }
 
-        applyPassiveDamage();
+        GameSimulation.GamePhase phaseBefore = simulation.getPhase();
+        simulation.step();
+        GameSimulation.GamePhase phase = simulation.getPhase();
+        if (phase != phaseBefore && (phase == GameSimulation.GamePhase.MAP_CLEARED || phase == GameSimulation.GamePhase.GAME_OVER)) {
+            saveGame();
+            Replay replay = simulation.stopRecording();
+            if (replay != null && offscreenHooks == null) replay.writeInBackground();
+        } else if (simulation.getTickCount() >= nextAutosaveTick) {
+            saveGame();
+        }
+    }
 
-        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
-            for (Personnel p : personnelList) {
-                p.update(getWidth(), getHeight());
+    private void stepReplay(Replay.Cursor cursor) {
+        for (int k = 0; k < replaySpeed; k++) {
+            // paused: walay events, para ang tick dili ma feed kaduha
+            if (simulation.getClock().isPaused()) {
+                simulation.step();
+                return;
             }
-            personnelList.removeIf(p -> p.getHP() <= 0);
-        } else if (currentPhase == GamePhase.PHASE_BOSS && boss != null) {
-            if (boss instanceof Boss) {
-                ((Boss) boss).update(getWidth(), getHeight());
+            if (!cursor.feed(simulation)) {
+                replayFinished = true;
+                return;
             }
-            bossAttackLogic();
+            simulation.step();
         }
+    }
 
-        if (upPressed) player.setY(player.getY() - PLAYER_SPEED);
-        if (downPressed) player.setY(player.getY() + PLAYER_SPEED);
-        if (leftPressed) player.setX(player.getX() - PLAYER_SPEED);
-        if (rightPressed) player.setX(player.getX() + PLAYER_SPEED);
+    private void renderActiveFrame() {
+        BufferStrategy strategy = renderCanvas.getBufferStrategy();
+        if (strategy == null) return;
 
-        player.setX(Math.max(0, Math.min(player.getX(), getWidth() - player.getWidth())));
-        player.setY(Math.max(HUD_HEIGHT, Math.min(player.getY(), getHeight() - player.getHeight())));
+        GameSimulation.GamePhase phase;
+        synchronized (snapshotReader) {
+            RenderSnapshot snapshot = snapshots.acquire();
+            phase = snapshot.hasPlayer ? snapshot.phase : null;
+            try {
+                do {
+                    do {
+                        Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                        try {
+                            renderFrame(g2d, renderCanvas.getWidth(), renderCanvas.getHeight(), snapshot);
+                        } finally {
+                            g2d.dispose();
+                        }
+                    } while (strategy.contentsRestored());
+                    strategy.show();
+                } while (strategy.contentsLost());
+            } catch (IllegalStateException e) {
+                // na dispose ang canvas (e.g. gi-close ang window), balik sa repaint() next frame
+                activeSurfaceReady = false;
+                return;
+            }
 
-        if (isAttacking && System.currentTimeMillis() - attackStartTime > ATTACK_DURATION_MS) {
-            isAttacking = false;
+            Toolkit.getDefaultToolkit().sync();
+            reportInputLatency(snapshot);
         }
 
-        popups.removeIf(p -> System.currentTimeMillis() - p.startTime > p.duration);
+        // ang paintComponent() kay mo return dayon samtang canvas pa, so dinhi i-show ang flowButton;
+        // mo switch balik sa repaint() ang syncRenderSurface() inig visible sa button
+        // ang phase ra ang ipasa sa EDT, dili ang snapshot
+        if (phase == GameSimulation.GamePhase.GAME_OVER || phase == GameSimulation.GamePhase.MAP_CLEARED) {
+            SwingUtilities.invokeLater(() -> {
+                updateFlowButton(phase);
+                repaint();
+            });
+        }
     }
 
-    private void applyPassiveDamage() {
-        if (currentHP <= 0) {
-            currentPhase = GamePhase.GAME_OVER;
-            return;
-        }
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        // ang canvas ang naka display; ayaw pag render sa EDT dungan sa game thread
+        if (activeRendering && activeSurfaceReady) return;
 
-        long currentTime = System.currentTimeMillis();
+        Graphics2D g2d = (Graphics2D) g;
 
-        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
-            for (Personnel p : personnelList) {
-                if (player.getBounds().intersects(p.getBounds()) && p.getHP() > 0) {
-                    if (p.canAttack()) {
-                        currentHP -= p.getDamage();
-                        p.attack(currentTime);
+        GameSimulation.GamePhase phase;
+        synchronized (snapshotReader) {
+            RenderSnapshot snapshot = snapshots.acquire();
+            phase = snapshot.hasPlayer ? snapshot.phase : null;
+            long paintStart = System.nanoTime();
+            renderFrame(g2d, getWidth(), getHeight(), snapshot);
+            lastPaintNanos = System.nanoTime() - paintStart;
 
-                        popups.add(new DamagePopup(
-                                "-" + p.getDamage(),
-                                player.getX() + player.getWidth() / 2,
-                                player.getY(),
-                                Color.RED.brighter()
-                        ));
-                    }
-                }
-            }
+            Toolkit.getDefaultToolkit().sync();
+            reportInputLatency(snapshot);
         }
+        updateFlowButton(phase);
+    }
 
-        else if (currentPhase == GamePhase.PHASE_BOSS && boss != null && boss.getHP() > 0) {
-            if (player.getBounds().intersects(boss.getBounds())) {
-                if (boss.canAttack()) {
-                    currentHP -= boss.getDamage();
-                    boss.attack(currentTime);
-                    bossAttackStartTime = currentTime;
+    // isa ra ka report matag snapshot, bisan ma paint pa siya balik
+    private void reportInputLatency(RenderSnapshot snapshot) {
+        if (snapshot.sequence == lastPresentedSequence) return;
+        lastPresentedSequence = snapshot.sequence;
 
-                    popups.add(new DamagePopup(
-                            "-" + boss.getDamage(),
-                            player.getX() + player.getWidth() / 2,
-                            player.getY(),
-                            Color.RED.brighter()
-                    ));
-                }
-            }
+        if (snapshot.inputNanos != GameSimulation.NO_INPUT) {
+            long latency = System.nanoTime() - snapshot.inputNanos;
+            pendingInputLatency.accumulateAndGet(latency, Math::max);
         }
     }
 
-    private void bossAttackLogic() {
-        // Boss Attack Visual End
-        if (System.currentTimeMillis() - bossAttackStartTime > 300) {
-            bossAttackStartTime = 0;
+    // same draw order for both repaint() and active rendering
+    void renderFrame(Graphics2D g2d, int width, int height) {
+        synchronized (snapshotReader) {
+            renderFrame(g2d, width, height, snapshots.acquire());
         }
     }
 
+    private void renderFrame(Graphics2D g2d, int width, int height, RenderSnapshot snapshot) {
+        spriteCache.setGraphicsConfiguration(g2d.getDeviceConfiguration());
 
+        if (!snapshot.hasPlayer) {
+            g2d.setColor(VOID_COLOR);
+            g2d.fillRect(0, 0, width, height);
+            return;
+        }
 
-    private void performBasicAttack() {
-        if (player == null || currentHP <= 0) return;
-        long currentTime = System.currentTimeMillis();
-
-        if (currentTime - player.getLastAttackTime() < ATTACK_COOLDOWN_MS) { return; }
-        if (currentMana < BITS_MANA_COST) { return; }
-
-        currentMana -= BITS_MANA_COST;
-        player.attack(currentTime);
-        isAttacking = true;
-        attackStartTime = currentTime;
-
-        Rectangle attackBounds = new Rectangle(player.getX() + player.getWidth(), player.getY(), 50, player.getHeight());
-
-        int damage = BITS_DAMAGE;
-
-        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
-            for (Personnel p : personnelList) {
-                if (p.getBounds().intersects(attackBounds) && p.getHP() > 0) {
-                    p.takeDamage(damage);
-                    popups.add(new DamagePopup("-" + damage, p.getX() + p.getWidth() / 2, p.getY(), Color.YELLOW));
-                }
+        resolveSprites(snapshot.playerName, snapshot.definition);
+
+        // camera sunod sa player; ang world kay magsugod sa ubos sa HUD
+        TileMap map = snapshot.map;
+        int cameraX = TileMap.cameraOffset(snapshot.playerX + snapshot.playerWidth / 2, width, map.getPixelWidth());
+        int cameraY = TileMap.cameraOffset(snapshot.playerY + snapshot.playerHeight / 2, height - GameSimulation.HUD_HEIGHT, map.getPixelHeight())
+                - GameSimulation.HUD_HEIGHT;
+
+        tileMapRenderer.setShowCollision(showCollision);
+        tileMapRenderer.draw(g2d, map, cameraX, cameraY, width, height);
+
+        // world space gikan diri hangtod sa popups
+        g2d.translate(-cameraX, -cameraY);
+
+        GameSimulation.GamePhase currentPhase = snapshot.phase;
+
+        // Draw Personnel, ang makita ra
+        if (currentPhase == GameSimulation.GamePhase.PHASE_PERSONNEL) {
+            int[] px = snapshot.personnelX;
+            int[] py = snapshot.personnelY;
+            int[] hp = snapshot.personnelHP;
+            int[] maxHP = snapshot.personnelMaxHP;
+            int minX = cameraX - PersonnelStore.SIZE - CULL_MARGIN, maxX = cameraX + width + CULL_MARGIN;
+            int minY = cameraY - PersonnelStore.SIZE - CULL_MARGIN, maxY = cameraY + height + CULL_MARGIN;
+            HudLayer.NameLabel personnelLabel = hudLayer.getNameLabel(g2d, snapshot.definition.enemyName);
+            for (int i = 0; i < snapshot.personnelCount; i++) {
+                if (px[i] < minX || px[i] > maxX || py[i] < minY || py[i] > maxY) continue;
+                GameEntity.drawSprite(g2d, this, personnelSprite, px[i], py[i], PersonnelStore.SIZE, PersonnelStore.SIZE);
+                GameEntity.drawHealthBar(g2d, personnelLabel, px[i], py[i], PersonnelStore.SIZE, PersonnelStore.SIZE, hp[i], maxHP[i]);
             }
         }
-        else if (currentPhase == GamePhase.PHASE_BOSS) {
-            if (boss != null && boss.getBounds().intersects(attackBounds) && boss.getHP() > 0) {
-                boss.takeDamage(damage);
-                popups.add(new DamagePopup("-" + damage, boss.getX() + boss.getWidth() / 2, boss.getY(), Color.YELLOW));
+
+        if (currentPhase == GameSimulation.GamePhase.PHASE_BOSS && snapshot.hasBoss) {
+            if (snapshot.bossHP > 0) {
+                GameEntity.drawSprite(g2d, this, bossSprite, snapshot.bossX, snapshot.bossY, snapshot.bossWidth, snapshot.bossHeight);
+                GameEntity.drawHealthBar(g2d, hudLayer.getNameLabel(g2d, snapshot.definition.bossName),
+                        snapshot.bossX, snapshot.bossY, snapshot.bossWidth, snapshot.bossHeight, snapshot.bossHP, snapshot.bossMaxHP);
             }
         }
-    }
 
+        if (snapshot.currentHP > 0) {
+            if (snapshot.shielded) {
+                g2d.setComposite(GlyphAtlas.alpha(0.4f));
+            }
+            GameEntity.drawSprite(g2d, this, playerSprite, snapshot.playerX, snapshot.playerY, snapshot.playerWidth, snapshot.playerHeight);
+            g2d.setComposite(AlphaComposite.SrcOver);
+            drawPlayerStatusAboveEntity(g2d, snapshot);
+        }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
 
-        Image mapImg = assetCache.get(MAP_BG_PATH);
-        if (mapImg != null) {
-            g2d.drawImage(mapImg, 0, 0, getWidth(), getHeight(), this);
-        } else {
-            g2d.setColor(new Color(30, 30, 30));
-            g2d.fillRect(0, 0, getWidth(), getHeight());
+        if (snapshot.isAttacking) {
+            Color attackColor = PLAYER_COLOR_MAP.getOrDefault(snapshot.playerName, Color.BLUE);
+            g2d.setColor(attackColor.brighter());
+            g2d.fillRect(snapshot.playerX + snapshot.playerWidth, snapshot.playerY + 10, snapshot.attackRange, snapshot.playerHeight - 20);
         }
 
-        if (player == null) return;
-
-        // Draw Personnel
-        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
-            for (Personnel p : personnelList) {
-                p.draw(g2d, this);
-                p.drawHealthBar(g2d, "Personnel");
-            }
+        if (snapshot.bossAttackFlash) {
+            g2d.setColor(Color.RED.darker());
+            g2d.fillRect(snapshot.bossX, snapshot.bossY, snapshot.bossWidth, snapshot.bossHeight);
         }
 
-        if (currentPhase == GamePhase.PHASE_BOSS && boss != null) {
-            if (boss.getHP() > 0) {
-                boss.draw(g2d, this);
-                boss.drawHealthBar(g2d, "Chair (Pantaleon)");
-            }
+        if (snapshot.bossChanneling) {
+            g2d.setColor(Color.YELLOW);
+            g2d.drawRect(snapshot.bossX - 4, snapshot.bossY - 4, snapshot.bossWidth + 8, snapshot.bossHeight + 8);
         }
 
-        if (currentHP > 0) {
-            player.draw(g2d, this);
-            drawPlayerStatusAboveEntity(g2d);
+        drawProjectiles(g2d, snapshot, cameraX, cameraY, width, height);
+
+        drawDamagePopups(g2d, snapshot);
+
+        g2d.translate(cameraX, cameraY);
+
+        if (snapshot.paused) {
+            drawMessage(g2d, "PAUSED", Color.WHITE, width, height);
+        } else if (currentPhase == GameSimulation.GamePhase.GAME_OVER) {
+            drawMessage(g2d, "GAME OVER!", Color.RED, width, height);
+        } else if (currentPhase == GameSimulation.GamePhase.MAP_CLEARED) {
+            drawMessage(g2d, "MAP CLEARED!", Color.YELLOW, width, height);
         }
 
+        drawHUD(g2d, width, height, snapshot);
 
-        if (isAttacking) {
-            Color attackColor = PLAYER_COLOR_MAP.getOrDefault(player.getPlayerName(), Color.BLUE);
-            g2d.setColor(attackColor.brighter());
-            g2d.fillRect(player.getX() + player.getWidth(), player.getY() + 10, 50, player.getHeight() - 20);
+        if (replayCursor != null) {
+            drawReplayLabel(g2d, width);
         }
 
-        if (bossAttackStartTime > 0 && boss != null) {
-            g2d.setColor(Color.RED.darker());
-            g2d.fillRect(boss.getX(), boss.getY(), boss.getWidth(), boss.getHeight());
+        if (showFrameStats) {
+            drawFrameStats(g2d);
         }
+    }
 
-        drawDamagePopups(g2d);
+    // EDT ra; ang phase kay gikan sa snapshot nga na render na, null kung walay player
+    private void updateFlowButton(GameSimulation.GamePhase currentPhase) {
+        if (currentPhase == null) return;
 
-        if (currentPhase == GamePhase.GAME_OVER) {
-            drawMessage(g2d, "GAME OVER!", Color.RED);
+        if (currentPhase == GameSimulation.GamePhase.GAME_OVER) {
             flowButton.setText("BACK TO MENU");
 
             flowButton.setBackground(new Color(150, 0, 0)); // Dark Red Background
@@ -426,91 +663,168 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
             flowButton.setBorder(BorderFactory.createLineBorder(Color.RED, 3)); // Red Border
 
             flowButton.setVisible(true);
-        } else if (currentPhase == GamePhase.MAP_CLEARED) {
-            drawMessage(g2d, "MAP CLEARED!", Color.YELLOW);
-
+            syncRenderSurface();
+        } else if (currentPhase == GameSimulation.GamePhase.MAP_CLEARED) {
             flowButton.setBackground(new Color(62, 0, 0, 200));
             flowButton.setForeground(new Color(255, 255, 0));
             flowButton.setBorder(BorderFactory.createLineBorder(new Color(204, 153, 0), 3));
 
             flowButton.setVisible(false);
         }
+    }
+
 
-        drawHUD(g2d, getWidth());
+    private void drawProjectiles(Graphics2D g2d, RenderSnapshot snapshot, int cameraX, int cameraY, int width, int height) {
+        int count = snapshot.projectileCount;
+        if (count == 0) return;
 
-        Toolkit.getDefaultToolkit().sync();
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (gc != projectileConfig || !snapshot.playerName.equals(projectileCharacter)) {
+            Color playerColor = PLAYER_COLOR_MAP.getOrDefault(snapshot.playerName, Color.CYAN);
+            projectileSprites[ProjectilePool.TEAM_HOSTILE] = createProjectileSprite(gc, ProjectilePool.HOSTILE_RADIUS, HOSTILE_PROJECTILE_COLOR);
+            projectileSprites[ProjectilePool.TEAM_PLAYER] = createProjectileSprite(gc, ProjectilePool.PLAYER_RADIUS, playerColor.brighter());
+            projectileConfig = gc;
+            projectileCharacter = snapshot.playerName;
+        }
+
+        int[] x = snapshot.projectileX;
+        int[] y = snapshot.projectileY;
+        byte[] team = snapshot.projectileTeam;
+        int minX = cameraX - CULL_MARGIN, maxX = cameraX + width + CULL_MARGIN;
+        int minY = cameraY - CULL_MARGIN, maxY = cameraY + height + CULL_MARGIN;
+        for (int i = 0; i < count; i++) {
+            if (x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY) continue;
+            int r = ProjectilePool.radiusOf(team[i]);
+            g2d.drawImage(projectileSprites[team[i]], x[i] - r, y[i] - r, null);
+        }
     }
 
+    private static BufferedImage createProjectileSprite(GraphicsConfiguration gc, int radius, Color color) {
+        int size = radius * 2;
+        BufferedImage image = gc != null
+                ? gc.createCompatibleImage(size, size, Transparency.TRANSLUCENT)
+                : new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(color);
+            g.fillOval(0, 0, size, size);
+            g.setColor(Color.WHITE);
+            g.fillOval(radius / 2, radius / 2, radius, radius);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private void drawDamagePopups(Graphics2D g2d, RenderSnapshot snapshot) {
+        int count = snapshot.popupCount;
+        if (count == 0) return;
+
+        int[] value = snapshot.popupValue;
+        int[] x = snapshot.popupX;
+        int[] y = snapshot.popupY;
+        long[] startTime = snapshot.popupStartTime;
+        byte[] color = snapshot.popupColor;
 
-    private void drawDamagePopups(Graphics2D g2d) {
-        g2d.setFont(new Font("Consolas", Font.BOLD, 16));
-        long currentTime = System.currentTimeMillis();
+        long currentTime = snapshot.nowMillis;
+        Composite originalComposite = g2d.getComposite();
 
-        Iterator<DamagePopup> iterator = popups.iterator();
-        while (iterator.hasNext()) {
-            DamagePopup p = iterator.next();
-            long timeElapsed = currentTime - p.startTime;
+        // ang simulation na ang mo expire sa daan nga popups
+        for (int i = 0; i < count; i++) {
+            long timeElapsed = currentTime - startTime[i];
 
-            if (timeElapsed > p.duration) {
-                iterator.remove();
+            if (timeElapsed > DamagePopupPool.DURATION_MS) {
                 continue;
             }
 
-            float alpha = 1.0f - (float)timeElapsed / p.duration;
-            int riseY = (int)(p.y - (timeElapsed / 10.0));
+            float alpha = 1.0f - (float)timeElapsed / DamagePopupPool.DURATION_MS;
+            int riseY = (int)(y[i] - (timeElapsed / 10.0));
 
-            g2d.setColor(new Color(p.color.getRed(), p.color.getGreen(), p.color.getBlue(), (int)(255 * alpha)));
-            g2d.drawString(p.text, p.x, riseY);
+            g2d.setComposite(GlyphAtlas.alpha(alpha));
+            popupGlyphs.drawValue(g2d, value[i], x[i], riseY, color[i]);
         }
+
+        g2d.setComposite(originalComposite);
     }
 
-    private void drawPlayerStatusAboveEntity(Graphics2D g2d) {
+    private void drawPlayerStatusAboveEntity(Graphics2D g2d, RenderSnapshot snapshot) {
         int hpBarWidth = 50;
         int hpBarHeight = 6;
         int statusYOffset = -15;
+        int barX = snapshot.playerX + (snapshot.playerWidth - hpBarWidth) / 2;
+        int barY = snapshot.playerY + statusYOffset;
 
-        double hpRatio = (double)currentHP / MAX_HP;
+        double hpRatio = (double)snapshot.currentHP / snapshot.maxHP;
         g2d.setColor(Color.RED);
-        g2d.fillRect(player.getX() + (player.getWidth() - hpBarWidth) / 2, player.getY() + statusYOffset, (int)(hpBarWidth * hpRatio), hpBarHeight);
+        g2d.fillRect(barX, barY, (int)(hpBarWidth * hpRatio), hpBarHeight);
         g2d.setColor(Color.WHITE);
-        g2d.drawRect(player.getX() + (player.getWidth() - hpBarWidth) / 2, player.getY() + statusYOffset, hpBarWidth, hpBarHeight);
+        g2d.drawRect(barX, barY, hpBarWidth, hpBarHeight);
 
-        double manaRatio = (double)currentMana / MAX_MANA;
-        Color playerColor = PLAYER_COLOR_MAP.getOrDefault(player.getPlayerName(), Color.CYAN);
+        double manaRatio = (double)snapshot.currentMana / snapshot.maxMana;
+        Color playerColor = PLAYER_COLOR_MAP.getOrDefault(snapshot.playerName, Color.CYAN);
         g2d.setColor(playerColor);
-        g2d.fillRect(player.getX() + (player.getWidth() - hpBarWidth) / 2, player.getY() + statusYOffset + hpBarHeight + 1, (int)(hpBarWidth * manaRatio), hpBarHeight);
+        g2d.fillRect(barX, barY + hpBarHeight + 1, (int)(hpBarWidth * manaRatio), hpBarHeight);
         g2d.setColor(Color.WHITE);
-        g2d.drawRect(player.getX() + (player.getWidth() - hpBarWidth) / 2, player.getY() + statusYOffset + hpBarHeight + 1, hpBarWidth, hpBarHeight);
+        g2d.drawRect(barX, barY + hpBarHeight + 1, hpBarWidth, hpBarHeight);
     }
 
-    private void drawHUD(Graphics2D g2d, int width) {
-        Color playerColor = PLAYER_COLOR_MAP.getOrDefault(player.getPlayerName(), Color.CYAN);
+    private void drawHUD(Graphics2D g2d, int width, int height, RenderSnapshot snapshot) {
+        Color playerColor = PLAYER_COLOR_MAP.getOrDefault(snapshot.playerName, Color.CYAN);
+        hudLayer.drawTopBar(g2d, width, snapshot.playerName, playerColor, snapshot.definition, snapshot.phase, snapshot.personnelCount);
+        hudLayer.drawSkillBar(g2d, height, snapshot.skills, snapshot.skillCooldownMs, snapshot.channelSlot, snapshot.currentMana);
+    }
 
-        g2d.setColor(new Color(0, 0, 0, 180));
-        g2d.fillRect(0, 0, width, HUD_HEIGHT);
-        g2d.setColor(new Color(204, 153, 0));
-        g2d.drawLine(0, HUD_HEIGHT, width, HUD_HEIGHT);
+    // F3 overlay
+    private void drawFrameStats(Graphics2D g2d) {
+        FrameStats.Summary stats = frameStats.getSummary();
+        if (stats.update == null) return;
 
-        g2d.setFont(new Font("Consolas", Font.BOLD, 18));
-        g2d.setColor(playerColor);
-        g2d.drawString(player.getPlayerName() + " | Map 1: GLE The Ancient Building", 15, 35);
+        int x = 10;
+        int y = GameSimulation.HUD_HEIGHT + 10;
+        g2d.setColor(STATS_BACKGROUND);
+        g2d.fillRect(x, y, 330, 132);
 
-        g2d.setFont(new Font("Consolas", Font.BOLD, 18));
-        g2d.setColor(Color.YELLOW);
-        String phaseText = (currentPhase == GamePhase.PHASE_PERSONNEL) ?
-                "Phase: Personnel (" + personnelList.size() + ")" :
-                (currentPhase == GamePhase.PHASE_BOSS) ? "Phase: BOSS" :
-                        "CLEARED";
+        g2d.setFont(STATS_FONT);
+        g2d.setColor(Color.WHITE);
+        int line = y + 14;
+        g2d.drawString("FPS " + stats.fps + "  TPS " + stats.tps + (activeRendering ? "  [active]" : "  [repaint]")
+                + (frameStats.isRecording() ? "  REC" : ""), x + 6, line);
+        g2d.drawString("entities " + stats.entities + "  popups " + stats.popups
+                + "  chunks " + tileMapRenderer.getLoadedChunkCount(), x + 6, line += 14);
+        g2d.drawString("ms       p50    p95    p99    max", x + 6, line += 18);
+        drawPercentiles(g2d, "update", stats.update, x + 6, line += 14);
+        drawPercentiles(g2d, "paint ", stats.paint, x + 6, line += 14);
+        drawPercentiles(g2d, "sleep ", stats.sleep, x + 6, line += 14);
+        drawPercentiles(g2d, "frame ", stats.frame, x + 6, line += 14);
+        if (stats.input != null) {
+            drawPercentiles(g2d, "input ", stats.input, x + 6, line + 14);
+        } else {
+            g2d.drawString("input  (no keys yet)", x + 6, line + 14);
+        }
+    }
 
-        int textWidth = g2d.getFontMetrics().stringWidth(phaseText);
-        g2d.drawString(phaseText, width - textWidth - 15, 35);
+    private static void drawPercentiles(Graphics2D g2d, String label, FrameStats.Percentiles p, int x, int y) {
+        g2d.drawString(String.format("%s %6.2f %6.2f %6.2f %6.2f", label,
+                p.p50 / 1e6, p.p95 / 1e6, p.p99 / 1e6, p.max / 1e6), x, y);
     }
 
-    private void drawMessage(Graphics2D g2d, String message, Color color) {
-        g2d.setFont(new Font("Consolas", Font.BOLD, 60));
+    // replay playback: speed ug controls sa upper right
+    private void drawReplayLabel(Graphics2D g2d, int width) {
+        String label = replayFinished ? "REPLAY ENDED  [ESC]" : "REPLAY x" + replaySpeed + "  [+/-]  [ESC]";
+        g2d.setFont(STATS_FONT);
+        int labelWidth = g2d.getFontMetrics().stringWidth(label) + 12;
+        g2d.setColor(STATS_BACKGROUND);
+        g2d.fillRect(width - labelWidth - 10, GameSimulation.HUD_HEIGHT + 10, labelWidth, 20);
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(label, width - labelWidth - 4, GameSimulation.HUD_HEIGHT + 24);
+    }
+
+    private void drawMessage(Graphics2D g2d, String message, Color color, int width, int height) {
+        g2d.setFont(MESSAGE_FONT);
         g2d.setColor(color);
-        int x = (getWidth() - g2d.getFontMetrics().stringWidth(message)) / 2;
-        int y = getHeight() / 2;
+        int x = (width - g2d.getFontMetrics().stringWidth(message)) / 2;
+        int y = height / 2;
         g2d.drawString(message, x, y);
     }
 
@@ -518,23 +832,84 @@ public class GamePanel extends JPanel implements Runnable, KeyListener {
     @Override
     public void keyPressed(KeyEvent e) {
         int code = e.getKeyCode();
-        if (code == KeyEvent.VK_UP || code == KeyEvent.VK_W) upPressed = true;
-        if (code == KeyEvent.VK_DOWN || code == KeyEvent.VK_S) downPressed = true;
-        if (code == KeyEvent.VK_LEFT || code == KeyEvent.VK_A) leftPressed = true;
-        if (code == KeyEvent.VK_RIGHT || code == KeyEvent.VK_D) rightPressed = true;
+        if (replayCursor != null) {
+            replayKeyPressed(code);
+        } else {
+            gameKeyPressed(code);
+        }
+
+        if (code == KeyEvent.VK_P) {
+            GameClock clock = simulation.getClock();
+            clock.setPaused(!clock.isPaused());
+            repaint();
+        }
 
-        if (code == KeyEvent.VK_SPACE && currentHP > 0) {
-            performBasicAttack();
+        if (code == KeyEvent.VK_F2) {
+            setActiveRendering(!activeRendering);
+        }
+
+        if (code == KeyEvent.VK_F3) {
+            showFrameStats = !showFrameStats;
+            repaint();
+        }
+
+        if (code == KeyEvent.VK_F4) {
+            frameStats.requestToggleRecording();
+        }
+
+        if (code == KeyEvent.VK_F6) {
+            showCollision = !showCollision;
+            repaint();
+        }
+    }
+
+    private void gameKeyPressed(int code) {
+        offerMovement(code, true);
+
+        if (code == KeyEvent.VK_SPACE) {
+            simulation.getInput().offer(InputQueue.ATTACK, true, System.nanoTime());
+        }
+
+        if (code == KeyEvent.VK_Q) {
+            simulation.getInput().offer(InputQueue.SKILL_2, true, System.nanoTime());
+        }
+
+        if (code == KeyEvent.VK_E) {
+            simulation.getInput().offer(InputQueue.SKILL_3, true, System.nanoTime());
+        }
+    }
+
+    // +/- = speed, ESC = balik sa menu
+    private void replayKeyPressed(int code) {
+        if (code == KeyEvent.VK_EQUALS || code == KeyEvent.VK_PLUS || code == KeyEvent.VK_ADD) {
+            replaySpeed = Math.min(MAX_REPLAY_SPEED, replaySpeed * 2);
+        }
+        if (code == KeyEvent.VK_MINUS || code == KeyEvent.VK_SUBTRACT) {
+            replaySpeed = Math.max(1, replaySpeed / 2);
+        }
+        if (code == KeyEvent.VK_ESCAPE) {
+            stopGameLoop();
+            replayCursor = null;
+            if (SwingUtilities.getWindowAncestor(this) instanceof MainGameDriver driver) {
+                driver.changeState(MainGameDriver.GameState.MENU);
+            }
         }
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        int code = e.getKeyCode();
-        if (code == KeyEvent.VK_UP || code == KeyEvent.VK_W) upPressed = false;
-        if (code == KeyEvent.VK_DOWN || code == KeyEvent.VK_S) downPressed = false;
-        if (code == KeyEvent.VK_LEFT || code == KeyEvent.VK_A) leftPressed = false;
-        if (code == KeyEvent.VK_RIGHT || code == KeyEvent.VK_D) rightPressed = false;
+        if (replayCursor != null) return;
+        offerMovement(e.getKeyCode(), false);
+    }
+
+    // ang simulation ang mo apply sa sunod nga tick
+    private void offerMovement(int code, boolean pressed) {
+        InputQueue input = simulation.getInput();
+        long now = System.nanoTime();
+        if (code == KeyEvent.VK_UP || code == KeyEvent.VK_W) input.offer(InputQueue.MOVE_UP, pressed, now);
+        if (code == KeyEvent.VK_DOWN || code == KeyEvent.VK_S) input.offer(InputQueue.MOVE_DOWN, pressed, now);
+        if (code == KeyEvent.VK_LEFT || code == KeyEvent.VK_A) input.offer(InputQueue.MOVE_LEFT, pressed, now);
+        if (code == KeyEvent.VK_RIGHT || code == KeyEvent.VK_D) input.offer(InputQueue.MOVE_RIGHT, pressed, now);
     }
 
     @Override
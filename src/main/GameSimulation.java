@@ -0,0 +1,790 @@
+package main;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// ang tanan gameplay state ug logic, walay Swing para ma run headless
+public class GameSimulation {
+
+    public enum GamePhase { PHASE_PERSONNEL, PHASE_BOSS, MAP_CLEARED, GAME_OVER }
+    private GamePhase currentPhase = GamePhase.PHASE_PERSONNEL;
+
+    public static final int PLAYER_DISPLAY_SIZE = 64;
+    public static final int PLAYER_SPEED = 4;
+    public static final int HUD_HEIGHT = 60;
+
+    // mga stats
+    public static final int MAX_HP = 1500;
+    public static final int MAX_MANA = 500;
+    public static final long ATTACK_DURATION_MS = 200;
+    // default nga gitas-on sa strike (basic attacks)
+    public static final int ATTACK_RANGE = 50;
+
+    // ang world; ang camera sa GamePanel ang mo decide unsa ang makita
+    private TileMap map;
+    // waves, boss ug spawns sa current map (res/maps.dat)
+    private MapDefinition definition = MapLibrary.shared().get(1);
+
+    // game thread ra; ang keyboard events mo agi sa input queue
+    private boolean upPressed, downPressed, leftPressed, rightPressed = false;
+    private boolean isAttacking = false;
+    private int attackRange = ATTACK_RANGE;
+
+    // ang entities
+    private GameEntity player;
+    private GameEntity boss;
+    private final PersonnelStore personnel = new PersonnelStore();
+
+    // broad-phase para sa contact damage ug attack hitboxes, keyed by PersonnelStore slot
+    public static final int SPATIAL_CELL_SIZE = 64;
+    private final SpatialHash personnelHash = new SpatialHash(SPATIAL_CELL_SIZE, 1024);
+    private int[] queryResults = new int[64];
+
+    // shared nga chase paths padulong sa player; usa para sa personnel size, usa para sa boss size
+    private final FlowField personnelField = new FlowField();
+    private final FlowField bossField = new FlowField();
+
+    // AI LOD: ang layo sa player kay mas talagsa ma update, ang layo kaayo kay tulog
+    private final LodScheduler lod = new LodScheduler();
+    private long bossLodTick = 0;
+    private long bossAwakeUntil = 0;
+
+    private int currentHP = MAX_HP;
+    private int currentMana = MAX_MANA;
+    // base stats + map rewards sa run
+    private int maxHP = MAX_HP;
+    private int maxMana = MAX_MANA;
+    private final PlayerProgress progress = new PlayerProgress(null);
+    private long attackStartTime = 0;
+    private long bossAttackStartTime = 0;
+    private final GameClock clock = new GameClock();
+
+    // skills gikan sa res/skills.dat; ang player kay caster sa SkillEngine
+    private final SkillEngine skills = new SkillEngine(clock, this::applySkill);
+    private int playerCaster = -1;
+    // -1 kung walay skills ang boss sa skills.dat
+    private int bossCaster = -1;
+    // ang boss mo cast ra kung ingon ani ka duol ang player
+    public static final int BOSS_SKILL_RANGE = 600;
+
+    // boss skills ug player projectile skills; 5,000+ live kay OK
+    public static final int PROJECTILE_CAPACITY = 8192;
+    private final ProjectilePool projectiles = new ProjectilePool(PROJECTILE_CAPACITY);
+
+    // para sa soak tests ug benchmarks: ma detect gihapon ang hits pero dili mo kunhod ang HP
+    private boolean invulnerable = false;
+
+    // display damage
+    public static final int POPUP_CAPACITY = 4096;
+    private final DamagePopupPool popups = new DamagePopupPool(POPUP_CAPACITY);
+
+    // key events gikan sa EDT, i-drain sa sugod sa matag tick
+    public static final int INPUT_CAPACITY = 256;
+    public static final long NO_INPUT = Long.MIN_VALUE;
+    private final InputQueue input = new InputQueue(INPUT_CAPACITY);
+    private final int[] inputEvents = new int[INPUT_CAPACITY];
+    private final long[] inputTimestamps = new long[INPUT_CAPACITY];
+    private long pendingInputNanos = NO_INPUT;
+
+    private Runnable mapClearedListener;
+    private Runnable bossAppearedListener;
+
+    // matag newGame kay bag-o nga seed para sa Personnel ug Boss; ang Replay mo dala ani
+    private final SplittableRandom seeds = new SplittableRandom();
+    private long seed;
+    // null kung wala nag record
+    private Replay recording;
+
+    // open arena (walay walls) hangtod mo setMap()
+    public GameSimulation(int width, int height) {
+        this.map = TileMap.open(width, height);
+    }
+
+    // i-apply sa sunod nga newGame()
+    public void setMap(TileMap map) {
+        this.map = map;
+    }
+
+    // map gikan sa MapLibrary; mo block ra kung wala pa na preload ang background
+    public void loadMap(MapDefinition definition) {
+        this.definition = definition;
+        this.map = MapLibrary.shared().getTileMap(definition.number);
+    }
+
+    public void setMapClearedListener(Runnable mapClearedListener) {
+        this.mapClearedListener = mapClearedListener;
+    }
+
+    // same sa mapClearedListener: game thread, ug walay stdout dinhi sa simulation
+    public void setBossAppearedListener(Runnable bossAppearedListener) {
+        this.bossAppearedListener = bossAppearedListener;
+    }
+
+    // walay sprites dinhi; ang GamePanel ang mo draw gamit ang SpriteCache
+    // bag-o nga run: walay rewards pa
+    public void resetProgress(String charName) {
+        progress.reset(charName);
+    }
+
+    public void newGame(String charName) {
+        newGame(charName, seeds.nextLong());
+    }
+
+    // same seed + same inputs = same fight
+    public void newGame(String charName, long gameSeed) {
+        seed = gameSeed;
+        recording = null;
+        maxHP = MAX_HP + progress.getBonusHP();
+        maxMana = MAX_MANA + progress.getBonusMana();
+        currentHP = maxHP;
+        currentMana = maxMana;
+        currentPhase = GamePhase.PHASE_PERSONNEL;
+
+        popups.clear();
+        projectiles.clear();
+        input.clear();
+        upPressed = downPressed = leftPressed = rightPressed = false;
+        pendingInputNanos = NO_INPUT;
+        isAttacking = false;
+        bossAttackStartTime = 0;
+        clock.reset();
+
+        Skill[] loadout = SkillBook.shared().loadout(charName);
+        skills.reset();
+        playerCaster = skills.addCaster(loadout);
+
+        // positions kay fractions sa world size (sa 800x600 kay pareho sa daan)
+        int worldWidth = map.getPixelWidth();
+        int worldHeight = map.getPixelHeight();
+        Point playerSpawn = map.findFree(worldWidth / 2 - PLAYER_DISPLAY_SIZE / 2, worldHeight / 2 - PLAYER_DISPLAY_SIZE / 2,
+                PLAYER_DISPLAY_SIZE, PLAYER_DISPLAY_SIZE);
+        player = new GameEntity(
+                playerSpawn.x,
+                playerSpawn.y,
+                PLAYER_DISPLAY_SIZE,
+                PLAYER_DISPLAY_SIZE,
+                maxHP,
+                loadout[0].amount,
+                loadout[0].cooldownMs,
+                null,
+                charName
+        );
+
+        int[] at = definition.bossSpawn;
+        Point bossSpawn = map.findFree(worldWidth * at[0] / at[1], worldHeight * at[2] / at[3],
+                definition.bossSize, definition.bossSize);
+        boss = new Boss(bossSpawn.x, bossSpawn.y, definition.bossSize, definition.bossHP, definition.bossDamage,
+                definition.bossAttackIntervalMs, definition.bossName);
+        bossCaster = SkillBook.shared().has(definition.bossName)
+                ? skills.addCaster(SkillBook.shared().loadout(definition.bossName)) : -1;
+
+        personnelField.reset(map, PersonnelStore.SIZE);
+        bossField.reset(map, definition.bossSize);
+        bossLodTick = 0;
+        bossAwakeUntil = 0;
+
+        SplittableRandom split = new SplittableRandom(gameSeed);
+        personnel.setSeed(split.nextLong());
+        ((Boss) boss).setSeed(split.nextLong());
+
+        initializePersonnel();
+    }
+
+    // human sa newGame(): i-record ang tanan input events sa queue hangtod stopRecording()
+    public Replay startRecording() {
+        recording = new Replay(player.getPlayerName(), definition.number, seed,
+                progress.getBonusHP(), progress.getBonusMana());
+        return recording;
+    }
+
+    // null kung wala nag record
+    public Replay stopRecording() {
+        Replay finished = recording;
+        recording = null;
+        if (finished != null) finished.finish(clock.getTick(), stateHash());
+        return finished;
+    }
+
+    // same map, character, rewards ug seed sa recording; dayon ang Replay.Cursor ang mo feed sa input
+    public void startReplay(Replay replay) {
+        loadMap(MapLibrary.shared().get(replay.mapNumber));
+        progress.restore(replay.character, replay.bonusHP, replay.bonusMana, replay.mapNumber - 1, List.of());
+        newGame(replay.character, replay.seed);
+    }
+
+    // para ma check nga ang replay kay nag sunod gyud sa recording
+    long stateHash() {
+        long h = clock.getTick();
+        h = h * 31 + currentPhase.ordinal();
+        h = h * 31 + currentHP;
+        h = h * 31 + currentMana;
+        h = h * 31 + player.getX();
+        h = h * 31 + player.getY();
+        if (boss != null) {
+            h = h * 31 + boss.getX();
+            h = h * 31 + boss.getY();
+            h = h * 31 + boss.getHP();
+        }
+        h = h * 31 + personnel.size();
+        for (int i = 0; i < personnel.size(); i++) {
+            h = h * 31 + personnel.getX(i);
+            h = h * 31 + personnel.getY(i);
+            h = h * 31 + personnel.getHP(i);
+        }
+        h = h * 31 + projectiles.size();
+        for (int i = 0; i < projectiles.size(); i++) {
+            h = h * 31 + projectiles.getX(i);
+            h = h * 31 + projectiles.getY(i);
+        }
+        return h;
+    }
+
+    // game thread ra: bulk copies, ang encoding kay sa SaveManager thread
+    void captureLiveState(SaveGame save) {
+        save.tick = clock.getTick();
+        save.nowNanos = clock.nowNanos();
+        save.phase = currentPhase;
+        save.currentHP = currentHP;
+        save.currentMana = currentMana;
+        save.playerX = player.getX();
+        save.playerY = player.getY();
+        save.playerLastAttack = player.getLastAttackTime();
+
+        save.hasBoss = boss instanceof Boss;
+        if (save.hasBoss) {
+            Boss b = (Boss) boss;
+            save.bossX = b.getX();
+            save.bossY = b.getY();
+            save.bossHP = b.getHP();
+            save.bossLastAttack = b.getLastAttackTime();
+            save.bossMoveTimer = b.getMoveTimer();
+            save.bossDirX = b.getTargetDx();
+            save.bossDirY = b.getTargetDy();
+            save.bossRng = b.getRngState();
+            save.bossLodTick = bossLodTick;
+            save.bossAwakeUntil = bossAwakeUntil;
+        }
+
+        personnel.saveTo(save);
+        projectiles.saveTo(save);
+        save.playerCooldowns = skills.saveCooldowns(playerCaster);
+        save.bossCooldowns = bossCaster >= 0 ? skills.saveCooldowns(bossCaster) : new long[0];
+    }
+
+    // ang map kay dapat na loadMap() sa save.mapNumber; kung dili live, sugod sa map gikan sa sinugdanan
+    public void restore(SaveGame save) {
+        progress.restore(save.character, save.bonusHP, save.bonusMana, save.mapsCleared, save.titles);
+        newGame(save.character);
+        if (!save.live) return;
+
+        clock.restore(save.tick, save.nowNanos);
+        currentPhase = save.phase;
+        currentHP = Math.min(save.currentHP, maxHP);
+        currentMana = Math.min(save.currentMana, maxMana);
+        player.restore(save.playerX, save.playerY, save.currentHP, save.playerLastAttack);
+
+        if (save.hasBoss && boss instanceof Boss) {
+            boss.restore(save.bossX, save.bossY, save.bossHP, save.bossLastAttack);
+            ((Boss) boss).restoreMotion(save.bossMoveTimer, save.bossDirX, save.bossDirY, save.bossRng);
+            bossLodTick = save.bossLodTick;
+            bossAwakeUntil = save.bossAwakeUntil;
+        }
+
+        personnel.restoreFrom(save);
+        personnelHash.clear();
+        for (int i = 0; i < personnel.size(); i++) {
+            personnelHash.insert(personnel.slotAt(i), personnel.getX(i), personnel.getY(i), PersonnelStore.SIZE, PersonnelStore.SIZE);
+        }
+        projectiles.restoreFrom(save);
+
+        for (int slot = 0; slot < save.playerCooldowns.length; slot++) {
+            skills.restoreCooldown(playerCaster, slot, save.playerCooldowns[slot]);
+        }
+        if (bossCaster >= 0) {
+            for (int slot = 0; slot < save.bossCooldowns.length; slot++) {
+                skills.restoreCooldown(bossCaster, slot, save.bossCooldowns[slot]);
+            }
+        }
+    }
+
+    private void initializePersonnel() {
+        personnel.clear();
+        personnelHash.clear();
+        int worldWidth = map.getPixelWidth();
+        int worldHeight = map.getPixelHeight();
+        for (int[] at : definition.spawns) {
+            spawnPersonnel(worldWidth * at[0] / at[1], worldHeight * at[2] / at[3]);
+        }
+    }
+
+    // returns the PersonnelStore handle; kung naa sa wall, i-balhin sa pinaka-duol nga libre
+    public int spawnPersonnel(int x, int y) {
+        Point spawn = map.findFree(x, y, PersonnelStore.SIZE, PersonnelStore.SIZE);
+        int handle = personnel.spawn(spawn.x, spawn.y, definition.enemyHP, definition.enemyDamage,
+                definition.enemyAttackIntervalMs);
+        personnelHash.insert(PersonnelStore.slotOf(handle), spawn.x, spawn.y, PersonnelStore.SIZE, PersonnelStore.SIZE);
+        return handle;
+    }
+
+    // swap-remove, so backwards para ma check gihapon ang gi-swap nga entity
+    // ang awake ra: ang tulog nga na igo kay na wake na sa updateAll()
+    private void removeDeadPersonnel() {
+        for (int i = personnel.activeCount() - 1; i >= 0; i--) {
+            if (personnel.getHP(i) <= 0) {
+                personnelHash.remove(personnel.slotAt(i));
+                personnel.removeAt(i);
+            }
+        }
+    }
+
+    // dense indices sa Personnel nga mo overlap sa rectangle, for hitboxes ug AoE skills
+    // ang indices naa sa getPersonnelQueryResults(), valid until the next query or removal
+    public int queryPersonnel(int x, int y, int width, int height) {
+        int count = personnelHash.query(x, y, width, height);
+        int[] slots = personnelHash.getResults();
+        if (queryResults.length < count) {
+            queryResults = Arrays.copyOf(queryResults, Math.max(count, queryResults.length * 2));
+        }
+        for (int i = 0; i < count; i++) {
+            queryResults[i] = personnel.indexOfSlot(slots[i]);
+        }
+        return count;
+    }
+
+    public int[] getPersonnelQueryResults() {
+        return queryResults;
+    }
+
+    private void switchPhase() {
+        if (currentPhase == GamePhase.PHASE_PERSONNEL && personnel.isEmpty()) {
+            currentPhase = GamePhase.PHASE_BOSS;
+            currentHP = maxHP;
+            currentMana = maxMana;
+            if (bossAppearedListener != null) {
+                bossAppearedListener.run();
+            }
+        } else if (currentPhase == GamePhase.PHASE_BOSS && boss != null && boss.getHP() <= 0) {
+            currentPhase = GamePhase.MAP_CLEARED;
+
+            boss = null;
+            projectiles.clear();
+            progress.recordClear(definition);
+
+            if (mapClearedListener != null) {
+                mapClearedListener.run();
+            }
+        }
+    }
+
+    // usa ka tick sa game logic
+    public void step() {
+        if (player == null) return;
+        boolean ticked = clock.advance();
+        // una ang timers, para ang cooldown nga nahuman karong tick kay ma cast dayon
+        if (ticked) skills.advance();
+        // drain gihapon bisan paused para dili mapuno ang queue; ang attacks kay sa running ticks ra
+        processInput(ticked, ticked && (currentPhase == GamePhase.PHASE_PERSONNEL || currentPhase == GamePhase.PHASE_BOSS));
+        if (!ticked) return;
+        long currentTime = clock.nowMillis();
+
+        switchPhase();
+
+        if (currentPhase == GamePhase.GAME_OVER || currentPhase == GamePhase.MAP_CLEARED) {
+            return;
+        }
+
+        applyPassiveDamage(currentTime);
+        lod.begin(clock.getTick(), player.getX() + player.getWidth() / 2, player.getY() + player.getHeight() / 2, map);
+
+        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
+            // parallel sa daghan nga personnel; ang spatial hash kay serial gihapon
+            // BFS ra kung nibalhin og cell ang player, dayon O(1) lookup matag personnel
+            personnelField.update(player.getX(), player.getY());
+            personnel.updateAll(map, personnelField, lod);
+            // ang tulog kay wala mo lihok
+            for (int i = 0; i < personnel.activeCount(); i++) {
+                personnelHash.update(personnel.slotAt(i), personnel.getX(i), personnel.getY(i), PersonnelStore.SIZE, PersonnelStore.SIZE);
+            }
+            removeDeadPersonnel();
+        } else if (currentPhase == GamePhase.PHASE_BOSS && boss != null) {
+            if (boss instanceof Boss) {
+                updateBoss((Boss) boss);
+            }
+            bossAttackLogic(currentTime);
+            bossSkillLogic();
+        }
+
+        int dx = (rightPressed ? PLAYER_SPEED : 0) - (leftPressed ? PLAYER_SPEED : 0);
+        int dy = (downPressed ? PLAYER_SPEED : 0) - (upPressed ? PLAYER_SPEED : 0);
+        movePlayer(dx, dy);
+
+        // usa ka batched pass para sa tanan projectiles, dayon ang hits
+        projectiles.integrate(map);
+        collideProjectiles(currentTime);
+
+        if (isAttacking && currentTime - attackStartTime > ATTACK_DURATION_MS) {
+            isAttacking = false;
+        }
+
+        popups.expire(currentTime);
+    }
+
+    private void processInput(boolean ticked, boolean allowAttack) {
+        int n = input.drain(inputEvents, inputTimestamps);
+        // paused: ang movement kay mo apply gihapon, so sa replay kay i-apply sa sunod nga tick
+        long replayTick = ticked ? clock.getTick() : clock.getTick() + 1;
+        for (int k = 0; k < n; k++) {
+            int event = inputEvents[k];
+            boolean pressed = InputQueue.isPressed(event);
+            // ang attacks nga gi-ignore (paused) kay dili na i-record
+            if (recording != null && (allowAttack || InputQueue.actionOf(event) <= InputQueue.MOVE_RIGHT)) {
+                recording.record(replayTick, event);
+            }
+            switch (InputQueue.actionOf(event)) {
+                case InputQueue.MOVE_UP -> upPressed = pressed;
+                case InputQueue.MOVE_DOWN -> downPressed = pressed;
+                case InputQueue.MOVE_LEFT -> leftPressed = pressed;
+                case InputQueue.MOVE_RIGHT -> rightPressed = pressed;
+                case InputQueue.ATTACK -> {
+                    if (pressed && allowAttack) castSkill(0);
+                }
+                case InputQueue.SKILL_2 -> {
+                    if (pressed && allowAttack) castSkill(1);
+                }
+                case InputQueue.SKILL_3 -> {
+                    if (pressed && allowAttack) castSkill(2);
+                }
+            }
+
+            // ang pinaka-daan nga event nga wala pa na render, para sa latency
+            if (pendingInputNanos == NO_INPUT) {
+                pendingInputNanos = inputTimestamps[k];
+            }
+        }
+    }
+
+    // per axis, para ma slide sa wall imbes na mo stop
+    private void movePlayer(int dx, int dy) {
+        if (dx != 0 && !map.isBlocked(player.getX() + dx, player.getY(), player.getWidth(), player.getHeight())) {
+            player.setX(player.getX() + dx);
+        }
+        if (dy != 0 && !map.isBlocked(player.getX(), player.getY() + dy, player.getWidth(), player.getHeight())) {
+            player.setY(player.getY() + dy);
+        }
+    }
+
+    private void applyPassiveDamage(long currentTime) {
+        if (currentHP <= 0) {
+            currentPhase = GamePhase.GAME_OVER;
+            projectiles.clear();
+            return;
+        }
+
+        // shield skills (e.g. Abstract Invi): walay contact damage
+        if (skills.isShielded(playerCaster)) return;
+
+        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
+            int hits = queryPersonnel(player.getX(), player.getY(), player.getWidth(), player.getHeight());
+            for (int h = 0; h < hits; h++) {
+                int i = queryResults[h];
+                if (personnel.getHP(i) > 0) {
+                    if (personnel.canAttack(i, currentTime)) {
+                        if (!invulnerable) currentHP -= personnel.getDamage(i);
+                        personnel.attack(i, currentTime);
+
+                        popups.add(
+                                -personnel.getDamage(i),
+                                player.getX() + player.getWidth() / 2,
+                                player.getY(),
+                                DamagePopupPool.COLOR_PLAYER_HIT,
+                                currentTime
+                        );
+                    }
+                }
+            }
+        }
+
+        else if (currentPhase == GamePhase.PHASE_BOSS && boss != null && boss.getHP() > 0) {
+            if (player.intersects(boss)) {
+                if (boss.canAttack(currentTime)) {
+                    if (!invulnerable) currentHP -= boss.getDamage();
+                    boss.attack(currentTime);
+                    bossAttackStartTime = currentTime;
+
+                    popups.add(
+                            -boss.getDamage(),
+                            player.getX() + player.getWidth() / 2,
+                            player.getY(),
+                            DamagePopupPool.COLOR_PLAYER_HIT,
+                            currentTime
+                    );
+                }
+            }
+        }
+    }
+
+    // same LOD sa personnel: tulog kung layo kaayo, catch-up kung mid-range
+    private void updateBoss(Boss bossEntity) {
+        if (lod.shouldSleep(bossEntity.getX(), bossEntity.getY(), bossEntity.getWidth(), bossAwakeUntil)) {
+            bossLodTick = lod.getTick();
+            lod.count(0, 1);
+            return;
+        }
+        int ticks = lod.ticksDue(0, bossEntity.getX(), bossEntity.getY(), bossEntity.getWidth(), bossLodTick, bossAwakeUntil);
+        if (ticks == 0) {
+            lod.count(0, 1);
+            return;
+        }
+        bossField.update(player.getX(), player.getY());
+        bossEntity.update(map, bossField, ticks);
+        bossLodTick = lod.getTick();
+        lod.count(1, 0);
+    }
+
+    private void bossAttackLogic(long currentTime) {
+        // Boss Attack Visual End
+        if (currentTime - bossAttackStartTime > 300) {
+            bossAttackStartTime = 0;
+        }
+    }
+
+    // mo cast ang boss sa una nga ready nga skill kung duol ang player
+    private void bossSkillLogic() {
+        if (bossCaster < 0 || boss.getHP() <= 0) return;
+        int ddx = (player.getX() + player.getWidth() / 2) - (boss.getX() + boss.getWidth() / 2);
+        int ddy = (player.getY() + player.getHeight() / 2) - (boss.getY() + boss.getHeight() / 2);
+        if (ddx * ddx + ddy * ddy > BOSS_SKILL_RANGE * BOSS_SKILL_RANGE) return;
+
+        Skill[] loadout = skills.getLoadout(bossCaster);
+        for (int slot = 0; slot < loadout.length; slot++) {
+            if (skills.cast(bossCaster, slot)) return;
+        }
+    }
+
+    // fan or ring sa projectiles gikan sa origin padulong sa target
+    private void fireProjectiles(int originX, int originY, int targetX, int targetY, Skill skill, byte team) {
+        double base = Math.atan2(targetY - originY, targetX - originX);
+        double spread = Math.toRadians(skill.spreadDegrees);
+        double step;
+        double first;
+        if (skill.count <= 1) {
+            step = 0;
+            first = base;
+        } else if (skill.spreadDegrees >= 360) {
+            step = spread / skill.count;
+            first = base;
+        } else {
+            step = spread / (skill.count - 1);
+            first = base - spread / 2;
+        }
+
+        int lifetime = Math.max(1, skill.range / skill.speed);
+        for (int k = 0; k < skill.count; k++) {
+            double angle = first + step * k;
+            projectiles.spawn(originX, originY, (float) (Math.cos(angle) * skill.speed), (float) (Math.sin(angle) * skill.speed),
+                    skill.amount, lifetime, team);
+        }
+    }
+
+    // hostile vs player kay usa ra ka box; player projectiles vs Personnel kay mo agi sa spatial hash
+    private void collideProjectiles(long currentTime) {
+        int playerLeft = player.getX(), playerTop = player.getY();
+        int playerRight = playerLeft + player.getWidth(), playerBottom = playerTop + player.getHeight();
+        boolean shielded = skills.isShielded(playerCaster);
+
+        for (int i = projectiles.size() - 1; i >= 0; i--) {
+            int px = projectiles.getX(i);
+            int py = projectiles.getY(i);
+            byte team = projectiles.getTeam(i);
+            int r = ProjectilePool.radiusOf(team);
+            int damage = projectiles.getDamage(i);
+
+            if (team == ProjectilePool.TEAM_HOSTILE) {
+                if (currentHP <= 0 || shielded) continue;
+                if (px + r > playerLeft && px - r < playerRight && py + r > playerTop && py - r < playerBottom) {
+                    if (!invulnerable) currentHP -= damage;
+                    popups.add(-damage, playerLeft + player.getWidth() / 2, playerTop, DamagePopupPool.COLOR_PLAYER_HIT, currentTime);
+                    projectiles.removeAt(i);
+                }
+            } else if (currentPhase == GamePhase.PHASE_PERSONNEL) {
+                int hits = queryPersonnel(px - r, py - r, r * 2, r * 2);
+                for (int h = 0; h < hits; h++) {
+                    int target = queryResults[h];
+                    if (personnel.getHP(target) > 0) {
+                        personnel.takeDamage(target, damage);
+                        popups.add(-damage, personnel.getX(target) + PersonnelStore.SIZE / 2, personnel.getY(target), DamagePopupPool.COLOR_ENEMY_HIT, currentTime);
+                        projectiles.removeAt(i);
+                        break;
+                    }
+                }
+            } else if (boss != null && boss.getHP() > 0 && boss.intersects(px - r, py - r, r * 2, r * 2)) {
+                boss.takeDamage(damage);
+                bossAwakeUntil = clock.getTick() + LodScheduler.DAMAGE_WAKE_TICKS;
+                popups.add(-damage, boss.getX() + boss.getWidth() / 2, boss.getY(), DamagePopupPool.COLOR_ENEMY_HIT, currentTime);
+                projectiles.removeAt(i);
+            }
+        }
+    }
+
+    public void performBasicAttack() {
+        castSkill(0);
+    }
+
+    // slot 0 basic, 1 intermediate, 2 ultimate; mana ug cooldown ang mo decide kung mo cast
+    public void castSkill(int slot) {
+        if (player == null || currentHP <= 0 || playerCaster < 0) return;
+        if (!skills.canCast(playerCaster, slot)) return;
+        Skill skill = skills.getSkill(playerCaster, slot);
+        if (currentMana < skill.manaCost) return;
+
+        currentMana -= skill.manaCost;
+        player.attack(clock.nowMillis());
+        skills.cast(playerCaster, slot);
+    }
+
+    // gikan sa SkillEngine: inig cast, human sa channel, ug matag DoT pulse
+    private void applySkill(int caster, Skill skill) {
+        if (player == null || currentHP <= 0) return;
+        if (currentPhase != GamePhase.PHASE_PERSONNEL && currentPhase != GamePhase.PHASE_BOSS) return;
+
+        if (caster == bossCaster) {
+            if (currentPhase == GamePhase.PHASE_BOSS && boss != null && boss.getHP() > 0) {
+                fireProjectiles(boss.getX() + boss.getWidth() / 2, boss.getY() + boss.getHeight() / 2,
+                        player.getX() + player.getWidth() / 2, player.getY() + player.getHeight() / 2,
+                        skill, ProjectilePool.TEAM_HOSTILE);
+            }
+            return;
+        }
+        if (caster != playerCaster) return;
+        long currentTime = clock.nowMillis();
+
+        switch (skill.kind) {
+            case HEAL -> {
+                currentHP = Math.min(maxHP, currentHP + skill.amount);
+                popups.add(skill.amount, player.getX() + player.getWidth() / 2, player.getY(), DamagePopupPool.COLOR_HEAL, currentTime);
+            }
+            case STRIKE -> {
+                isAttacking = true;
+                attackStartTime = currentTime;
+                attackRange = skill.range;
+                hitArea(player.getX() + player.getWidth(), player.getY(), skill.range, player.getHeight(), skill, currentTime);
+            }
+            case AREA -> {
+                int centerX = player.getX() + player.getWidth() / 2;
+                int centerY = player.getY() + player.getHeight() / 2;
+                hitArea(centerX - skill.range, centerY - skill.range, skill.range * 2, skill.range * 2, skill, currentTime);
+            }
+            case PROJECTILE -> {
+                int centerX = player.getX() + player.getWidth() / 2;
+                int centerY = player.getY() + player.getHeight() / 2;
+                long target = nearestTarget(centerX, centerY, skill.range);
+                fireProjectiles(centerX, centerY, (int) (target >> 32), (int) target, skill, ProjectilePool.TEAM_PLAYER);
+            }
+        }
+    }
+
+    // center sa pinaka-duol nga kaaway sulod sa range, packed as x << 32 | y; walay kaaway = padulong sa tuo
+    private long nearestTarget(int centerX, int centerY, int range) {
+        int bestX = centerX + range, bestY = centerY;
+        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
+            long bestDistance = Long.MAX_VALUE;
+            int hits = queryPersonnel(centerX - range, centerY - range, range * 2, range * 2);
+            for (int h = 0; h < hits; h++) {
+                int i = queryResults[h];
+                int ex = personnel.getX(i) + PersonnelStore.SIZE / 2;
+                int ey = personnel.getY(i) + PersonnelStore.SIZE / 2;
+                long distance = (long) (ex - centerX) * (ex - centerX) + (long) (ey - centerY) * (ey - centerY);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestX = ex;
+                    bestY = ey;
+                }
+            }
+        } else if (boss != null) {
+            bestX = boss.getX() + boss.getWidth() / 2;
+            bestY = boss.getY() + boss.getHeight() / 2;
+        }
+        return ((long) bestX << 32) | (bestY & 0xffffffffL);
+    }
+
+    private void hitArea(int x, int y, int width, int height, Skill skill, long currentTime) {
+        int damage = skill.amount;
+        int limit = skill.maxTargets > 0 ? skill.maxTargets : Integer.MAX_VALUE;
+
+        if (currentPhase == GamePhase.PHASE_PERSONNEL) {
+            int hits = queryPersonnel(x, y, width, height);
+            for (int h = 0; h < hits && limit > 0; h++) {
+                int i = queryResults[h];
+                if (personnel.getHP(i) > 0) {
+                    personnel.takeDamage(i, damage);
+                    popups.add(-damage, personnel.getX(i) + PersonnelStore.SIZE / 2, personnel.getY(i), DamagePopupPool.COLOR_ENEMY_HIT, currentTime);
+                    limit--;
+                }
+            }
+        }
+        else if (currentPhase == GamePhase.PHASE_BOSS) {
+            if (boss != null && boss.intersects(x, y, width, height) && boss.getHP() > 0) {
+                boss.takeDamage(damage);
+                bossAwakeUntil = clock.getTick() + LodScheduler.DAMAGE_WAKE_TICKS;
+                popups.add(-damage, boss.getX() + boss.getWidth() / 2, boss.getY(), DamagePopupPool.COLOR_ENEMY_HIT, currentTime);
+            }
+        }
+    }
+
+    // para sa scenarios: full HP ug mana sa player ug full HP sa boss, para dili mahuman ang away
+    void refill() {
+        currentHP = maxHP;
+        currentMana = maxMana;
+        if (boss != null) boss.restore(boss.getX(), boss.getY(), boss.getMaxHP(), boss.getLastAttackTime());
+    }
+
+    public void setInvulnerable(boolean invulnerable) {
+        this.invulnerable = invulnerable;
+    }
+
+    // input, game thread ra (e.g. HeadlessRunner bot); ang EDT kay mo offer sa getInput()
+    public InputQueue getInput() { return input; }
+
+    // timestamp sa pinaka-daan nga event sukad sa last call, or NO_INPUT; tawgon kung mag publish ug frame
+    public long takeInputTimestamp() {
+        long nanos = pendingInputNanos;
+        pendingInputNanos = NO_INPUT;
+        return nanos;
+    }
+
+    public void setUpPressed(boolean pressed) { upPressed = pressed; }
+    public void setDownPressed(boolean pressed) { downPressed = pressed; }
+    public void setLeftPressed(boolean pressed) { leftPressed = pressed; }
+    public void setRightPressed(boolean pressed) { rightPressed = pressed; }
+
+    // mga getters
+    public GamePhase getPhase() { return currentPhase; }
+    public GameEntity getPlayer() { return player; }
+    public GameEntity getBoss() { return boss; }
+    public PersonnelStore getPersonnel() { return personnel; }
+    public FlowField getPersonnelField() { return personnelField; }
+    public LodScheduler getLod() { return lod; }
+    public DamagePopupPool getPopups() { return popups; }
+    public int getCurrentHP() { return currentHP; }
+    public int getCurrentMana() { return currentMana; }
+    public int getMaxHP() { return maxHP; }
+    public int getMaxMana() { return maxMana; }
+    public PlayerProgress getProgress() { return progress; }
+    public boolean isAttacking() { return isAttacking; }
+    public int getAttackRange() { return attackRange; }
+    public SkillEngine getSkills() { return skills; }
+    public int getBossCaster() { return bossCaster; }
+    public ProjectilePool getProjectiles() { return projectiles; }
+    public int getPlayerCaster() { return playerCaster; }
+    public long getBossAttackStartTime() { return bossAttackStartTime; }
+    public long getTickCount() { return clock.getTick(); }
+    public GameClock getClock() { return clock; }
+    public long getSeed() { return seed; }
+    public boolean isRecording() { return recording != null; }
+    public TileMap getMap() { return map; }
+    public MapDefinition getMapDefinition() { return definition; }
+    public int getWidth() { return map.getPixelWidth(); }
+    public int getHeight() { return map.getPixelHeight(); }
+}
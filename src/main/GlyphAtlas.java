@@ -0,0 +1,106 @@
+package main;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// pre-rasterized "-+0123456789" strip per color; ang numbers kay sub-image blits ra, walay text layout
+public class GlyphAtlas {
+
+    private static final String GLYPHS = "-+0123456789";
+    private static final int ALPHA_LEVELS = 64;
+
+    // precomputed fade composites, index 0 = transparent .. ALPHA_LEVELS-1 = opaque
+    private static final AlphaComposite[] ALPHA_TABLE = new AlphaComposite[ALPHA_LEVELS];
+    static {
+        for (int i = 0; i < ALPHA_LEVELS; i++) {
+            ALPHA_TABLE[i] = AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) i / (ALPHA_LEVELS - 1));
+        }
+    }
+
+    private final Font font;
+    private final Color[] colors;
+
+    private BufferedImage[] strips;
+    private GraphicsConfiguration stripConfig;
+    private final int[] glyphX = new int[GLYPHS.length()];
+    private final int[] glyphWidth = new int[GLYPHS.length()];
+    private int ascent;
+    private int cellHeight;
+
+    private final int[] digits = new int[10];
+
+    public GlyphAtlas(Font font, Color... colors) {
+        this.font = font;
+        this.colors = colors.clone();
+    }
+
+    public static AlphaComposite alpha(float alpha) {
+        int level = (int) (alpha * (ALPHA_LEVELS - 1) + 0.5f);
+        return ALPHA_TABLE[Math.max(0, Math.min(ALPHA_LEVELS - 1, level))];
+    }
+
+    // draws "-123" / "+500" with the baseline at (x, baseline), same placement sa drawString
+    public void drawValue(Graphics2D g2d, int signedValue, int x, int baseline, int colorIndex) {
+        ensureStrips(g2d);
+        BufferedImage strip = strips[colorIndex];
+        int top = baseline - ascent;
+
+        int penX = x;
+        if (signedValue != 0) {
+            penX = blit(g2d, strip, signedValue < 0 ? 0 : 1, penX, top);
+        }
+
+        int magnitude = Math.abs(signedValue);
+        int count = 0;
+        do {
+            digits[count++] = magnitude % 10;
+            magnitude /= 10;
+        } while (magnitude > 0);
+
+        for (int i = count - 1; i >= 0; i--) {
+            penX = blit(g2d, strip, 2 + digits[i], penX, top);
+        }
+    }
+
+    private int blit(Graphics2D g2d, BufferedImage strip, int glyph, int penX, int top) {
+        int sx = glyphX[glyph];
+        int w = glyphWidth[glyph];
+        g2d.drawImage(strip, penX, top, penX + w, top + cellHeight, sx, 0, sx + w, cellHeight, null);
+        return penX + w;
+    }
+
+    private void ensureStrips(Graphics2D g2d) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (strips != null && gc == stripConfig) return;
+
+        FontMetrics metrics = g2d.getFontMetrics(font);
+        ascent = metrics.getAscent();
+        cellHeight = ascent + metrics.getDescent();
+
+        int totalWidth = 0;
+        for (int i = 0; i < GLYPHS.length(); i++) {
+            glyphX[i] = totalWidth;
+            glyphWidth[i] = metrics.charWidth(GLYPHS.charAt(i));
+            totalWidth += glyphWidth[i];
+        }
+
+        strips = new BufferedImage[colors.length];
+        for (int c = 0; c < colors.length; c++) {
+            BufferedImage strip = (gc != null)
+                    ? gc.createCompatibleImage(totalWidth, cellHeight, Transparency.TRANSLUCENT)
+                    : new BufferedImage(totalWidth, cellHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D sg = strip.createGraphics();
+            try {
+                sg.setFont(font);
+                sg.setColor(colors[c]);
+                for (int i = 0; i < GLYPHS.length(); i++) {
+                    sg.drawString(String.valueOf(GLYPHS.charAt(i)), glyphX[i], ascent);
+                }
+            } finally {
+                sg.dispose();
+            }
+            strips[c] = strip;
+        }
+        stripConfig = gc;
+    }
+}
@@ -0,0 +1,127 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// ticks GameSimulation as fast as the CPU allows, walay window
+// usage: java -Djava.awt.headless=true -cp out main.HeadlessRunner [seconds] [personnel] [map]
+//        java -Djava.awt.headless=true -cp out main.HeadlessRunner --replay <file.wgr>
+public class HeadlessRunner {
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length > 1 && args[0].equals("--replay")) {
+            System.exit(replay(Paths.get(args[1])) ? 0 : 1);
+        }
+
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int extraPersonnel = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        MapDefinition map = MapLibrary.shared().get(args.length > 2 ? Integer.parseInt(args[2]) : 1);
+
+        GameSimulation simulation = new GameSimulation(800, 600);
+        simulation.loadMap(map);
+        // ang extra personnel kay mo gukod sa player; kung dili invulnerable, game over dayon ug restarts ra ang ma soak
+        simulation.setInvulnerable(extraPersonnel > 0);
+        startGame(simulation, extraPersonnel);
+
+        long endTime = System.nanoTime() + seconds * 1_000_000_000L;
+        long reportTime = System.nanoTime() + 1_000_000_000L;
+        long ticksSinceReport = 0;
+        long totalTicks = 0;
+        int restarts = 0;
+        LodScheduler lod = simulation.getLod();
+        long reportedUpdates = 0, reportedSkipped = 0;
+
+        while (System.nanoTime() < endTime) {
+            driveBot(simulation);
+            simulation.step();
+            ticksSinceReport++;
+            totalTicks++;
+
+            GameSimulation.GamePhase phase = simulation.getPhase();
+            if (phase == GameSimulation.GamePhase.GAME_OVER || phase == GameSimulation.GamePhase.MAP_CLEARED) {
+                startGame(simulation, extraPersonnel);
+                restarts++;
+            }
+
+            long now = System.nanoTime();
+            if (now >= reportTime) {
+                long updates = lod.getUpdates() - reportedUpdates;
+                long skipped = lod.getSkipped() - reportedSkipped;
+                System.out.printf("ticks/s: %,d | personnel: %d | phase: %s | AI updates: %,d, skipped %,d (%d%%), asleep %d%n",
+                        ticksSinceReport, simulation.getPersonnel().size(), simulation.getPhase(),
+                        updates, skipped, skipped * 100 / Math.max(1, updates + skipped), lod.getSleeping());
+                reportedUpdates += updates;
+                reportedSkipped += skipped;
+                ticksSinceReport = 0;
+                reportTime = now + 1_000_000_000L;
+            }
+        }
+
+        System.out.printf("total ticks: %,d | avg ticks/s: %,d | restarts: %d | AI updates skipped: %,d of %,d%n",
+                totalTicks, totalTicks / Math.max(1, seconds), restarts,
+                lod.getSkipped(), lod.getSkipped() + lod.getUpdates());
+    }
+
+    // kutob sa kaya sa CPU, dayon i-compare ang state sa recording; false kung dili mo tugma
+    private static boolean replay(Path file) {
+        Replay replay;
+        try {
+            replay = Replay.read(file);
+        } catch (IOException e) {
+            System.err.println("Replay: cannot read " + file + ": " + e.getMessage());
+            return false;
+        }
+
+        GameSimulation simulation = new GameSimulation(800, 600);
+        simulation.startReplay(replay);
+        Replay.Cursor cursor = replay.cursor();
+
+        long start = System.nanoTime();
+        while (cursor.feed(simulation)) {
+            simulation.step();
+        }
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        double gameSeconds = (double) replay.getEndTick() / GameClock.TICKS_PER_SECOND;
+
+        boolean match = simulation.stateHash() == replay.getEndHash();
+        System.out.printf("replay: %s map %d | %,d ticks (%.1f s) | %,d events | %.1f ms = %,.0fx real time | phase: %s | %s%n",
+                replay.getCharacter(), replay.getMapNumber(), replay.getEndTick(), gameSeconds, replay.getEventCount(),
+                elapsedMs, gameSeconds * 1000 / elapsedMs, simulation.getPhase(), match ? "MATCH" : "DESYNC");
+        return match;
+    }
+
+    private static void startGame(GameSimulation simulation, int extraPersonnel) {
+        simulation.newGame("Bron");
+        for (int i = 0; i < extraPersonnel; i++) {
+            simulation.spawnPersonnel((i * 37) % (simulation.getWidth() - 64), (i * 53) % (simulation.getHeight() - 64));
+        }
+    }
+
+    // simple nga bot: duol sa pinaka-una nga kaaway ug atake permi
+    private static void driveBot(GameSimulation simulation) {
+        GameEntity player = simulation.getPlayer();
+        PersonnelStore personnel = simulation.getPersonnel();
+        int targetX, targetY;
+        if (simulation.getPhase() == GameSimulation.GamePhase.PHASE_PERSONNEL && !personnel.isEmpty()) {
+            targetX = personnel.getX(0);
+            targetY = personnel.getY(0);
+        } else if (simulation.getBoss() != null) {
+            targetX = simulation.getBoss().getX();
+            targetY = simulation.getBoss().getY();
+        } else {
+            return;
+        }
+
+        targetX -= player.getWidth();
+        simulation.setLeftPressed(player.getX() > targetX);
+        simulation.setRightPressed(player.getX() < targetX);
+        simulation.setUpPressed(player.getY() > targetY);
+        simulation.setDownPressed(player.getY() < targetY);
+        simulation.performBasicAttack();
+        simulation.castSkill(1);
+        simulation.castSkill(2);
+    }
+}
@@ -0,0 +1,221 @@
+package main;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+// retained HUD: ang top bar, skill bar ug name labels gi-render sa offscreen images,
+// rebuild ra kung mausab ang character, phase, personnel count or skill state
+public class HudLayer {
+
+    static final Font HUD_FONT = new Font("Consolas", Font.BOLD, 18);
+    static final Font NAME_FONT = new Font("Monospaced", Font.BOLD, 10);
+    static final Font SKILL_FONT = new Font("Consolas", Font.BOLD, 12);
+
+    // keys sa matag skill slot, pareho sa GamePanel.keyPressed
+    static final String[] SKILL_KEYS = { "Space", "Q", "E" };
+    private static final int SKILL_BOX_WIDTH = 170;
+    private static final int SKILL_BOX_HEIGHT = 38;
+    private static final Color SKILL_READY = new Color(120, 255, 120);
+    private static final Color SKILL_WAITING = new Color(170, 170, 170);
+
+    private static final Color HUD_BACKGROUND = new Color(0, 0, 0, 180);
+    private static final Color HUD_BORDER = new Color(204, 153, 0);
+
+    private BufferedImage topBar;
+    private GraphicsConfiguration topBarConfig;
+
+    // mga inputs sa last rebuild
+    private int cachedWidth = -1;
+    private String cachedCharacter;
+    private MapDefinition cachedMap;
+    private GameSimulation.GamePhase cachedPhase;
+    private int cachedPersonnelCount = -1;
+    private int rebuildCount = 0;
+
+    private BufferedImage skillBar;
+    private GraphicsConfiguration skillBarConfig;
+    // mga inputs sa last skill bar rebuild; ang cooldown kay sa tibuok segundo ra
+    private Skill[] cachedSkills;
+    private final int[] cachedSkillState = new int[SkillBook.SLOTS];
+
+    private final Map<String, NameLabel> nameLabels = new HashMap<>();
+    private GraphicsConfiguration labelConfig;
+
+    static class NameLabel {
+        final BufferedImage image;
+        final int ascent;
+
+        NameLabel(BufferedImage image, int ascent) {
+            this.image = image;
+            this.ascent = ascent;
+        }
+    }
+
+    public void drawTopBar(Graphics2D g2d, int width, String charName, Color playerColor, MapDefinition map,
+                           GameSimulation.GamePhase phase, int personnelCount) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+
+        // personnel count only shows during PHASE_PERSONNEL
+        int shownCount = (phase == GameSimulation.GamePhase.PHASE_PERSONNEL) ? personnelCount : -1;
+
+        if (topBar == null || gc != topBarConfig || width != cachedWidth || phase != cachedPhase
+                || shownCount != cachedPersonnelCount || !charName.equals(cachedCharacter) || map != cachedMap) {
+            rebuildTopBar(gc, width, charName, playerColor, map, phase, shownCount);
+        }
+
+        g2d.drawImage(topBar, 0, 0, null);
+    }
+
+    private void rebuildTopBar(GraphicsConfiguration gc, int width, String charName, Color playerColor, MapDefinition map,
+                               GameSimulation.GamePhase phase, int personnelCount) {
+        int height = GameSimulation.HUD_HEIGHT + 1;
+        if (topBar == null || gc != topBarConfig || topBar.getWidth() != width) {
+            topBar = createImage(gc, width, height);
+            topBarConfig = gc;
+        }
+
+        Graphics2D g2d = topBar.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, width, height);
+            g2d.setComposite(AlphaComposite.SrcOver);
+
+            g2d.setColor(HUD_BACKGROUND);
+            g2d.fillRect(0, 0, width, GameSimulation.HUD_HEIGHT);
+            g2d.setColor(HUD_BORDER);
+            g2d.drawLine(0, GameSimulation.HUD_HEIGHT, width, GameSimulation.HUD_HEIGHT);
+
+            g2d.setFont(HUD_FONT);
+            g2d.setColor(playerColor);
+            g2d.drawString(charName + " | " + map.getTitle(), 15, 35);
+
+            g2d.setColor(Color.YELLOW);
+            String phaseText = (phase == GameSimulation.GamePhase.PHASE_PERSONNEL) ?
+                    "Phase: " + map.getEnemyName() + " (" + personnelCount + ")" :
+                    (phase == GameSimulation.GamePhase.PHASE_BOSS) ? "Phase: BOSS" :
+                            "CLEARED";
+
+            int textWidth = g2d.getFontMetrics().stringWidth(phaseText);
+            g2d.drawString(phaseText, width - textWidth - 15, 35);
+        } finally {
+            g2d.dispose();
+        }
+
+        cachedWidth = width;
+        cachedCharacter = charName;
+        cachedMap = map;
+        cachedPhase = phase;
+        cachedPersonnelCount = personnelCount;
+        rebuildCount++;
+    }
+
+    // ubos-wala sa screen; rebuild ra kung mausab ang segundo sa cooldown, channel or mana
+    public void drawSkillBar(Graphics2D g2d, int height, Skill[] skills, long[] cooldownMs, int channelSlot, int mana) {
+        if (skills == null) return;
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+
+        boolean changed = skillBar == null || gc != skillBarConfig || skills != cachedSkills;
+        for (int slot = 0; slot < skills.length; slot++) {
+            int state = skillState(skills[slot], cooldownMs[slot], slot == channelSlot, mana);
+            if (state != cachedSkillState[slot]) {
+                cachedSkillState[slot] = state;
+                changed = true;
+            }
+        }
+        if (changed) {
+            rebuildSkillBar(gc, skills);
+        }
+
+        g2d.drawImage(skillBar, 10, height - SKILL_BOX_HEIGHT - 10, null);
+    }
+
+    // -1 casting, -2 kulang ug mana, 0 ready, >0 segundo nga nabilin
+    private static int skillState(Skill skill, long cooldownMs, boolean channeling, int mana) {
+        if (channeling) return -1;
+        if (cooldownMs > 0) return (int) ((cooldownMs + 999) / 1000);
+        return mana < skill.manaCost ? -2 : 0;
+    }
+
+    private void rebuildSkillBar(GraphicsConfiguration gc, Skill[] skills) {
+        int width = skills.length * (SKILL_BOX_WIDTH + 6);
+        if (skillBar == null || gc != skillBarConfig || skillBar.getWidth() != width) {
+            skillBar = createImage(gc, width, SKILL_BOX_HEIGHT);
+            skillBarConfig = gc;
+        }
+
+        Graphics2D g2d = skillBar.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, width, SKILL_BOX_HEIGHT);
+            g2d.setComposite(AlphaComposite.SrcOver);
+            g2d.setFont(SKILL_FONT);
+
+            for (int slot = 0; slot < skills.length; slot++) {
+                int x = slot * (SKILL_BOX_WIDTH + 6);
+                g2d.setColor(HUD_BACKGROUND);
+                g2d.fillRect(x, 0, SKILL_BOX_WIDTH, SKILL_BOX_HEIGHT);
+                g2d.setColor(HUD_BORDER);
+                g2d.drawRect(x, 0, SKILL_BOX_WIDTH - 1, SKILL_BOX_HEIGHT - 1);
+
+                int state = cachedSkillState[slot];
+                g2d.setColor(state == 0 ? SKILL_READY : SKILL_WAITING);
+                g2d.drawString("[" + SKILL_KEYS[slot] + "] " + skills[slot].name, x + 6, 15);
+
+                String status = state == -1 ? "casting..." :
+                        state == -2 ? "no mana (" + skills[slot].manaCost + ")" :
+                                state > 0 ? state + "s" :
+                                        "ready  " + skills[slot].manaCost + " mana";
+                g2d.drawString(status, x + 6, 31);
+            }
+        } finally {
+            g2d.dispose();
+        }
+
+        cachedSkills = skills;
+        rebuildCount++;
+    }
+
+    // pre-rendered name label nga i-blit sa ubos sa entity
+    public NameLabel getNameLabel(Graphics2D g2d, String name) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (gc != labelConfig) {
+            nameLabels.clear();
+            labelConfig = gc;
+        }
+
+        NameLabel label = nameLabels.get(name);
+        if (label == null) {
+            FontMetrics metrics = g2d.getFontMetrics(NAME_FONT);
+            int w = Math.max(1, metrics.stringWidth(name));
+            int h = Math.max(1, metrics.getAscent() + metrics.getDescent());
+
+            BufferedImage image = createImage(gc, w, h);
+            Graphics2D lg = image.createGraphics();
+            try {
+                lg.setFont(NAME_FONT);
+                lg.setColor(Color.WHITE);
+                lg.drawString(name, 0, metrics.getAscent());
+            } finally {
+                lg.dispose();
+            }
+
+            label = new NameLabel(image, metrics.getAscent());
+            nameLabels.put(name, label);
+        }
+        return label;
+    }
+
+    // pila na ka beses na rebuild, para sa debug overlay
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private static BufferedImage createImage(GraphicsConfiguration gc, int width, int height) {
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+}
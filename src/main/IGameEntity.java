@@ -6,7 +6,7 @@ public interface IGameEntity {
 
 
     void move(int dx, int dy);
-    boolean canAttack();
+    boolean canAttack(long currentTime);
     void attack(long currentTime);
     void takeDamage(int damage);
 
@@ -19,6 +19,14 @@ public interface IGameEntity {
     int getHeight();
     long getLastAttackTime();
     String getPlayerName();
+
+    // allocation-free AABB checks, same semantics sa Rectangle
+    boolean intersects(int x, int y, int width, int height);
+    boolean intersects(IGameEntity other);
+    boolean contains(int px, int py);
+    boolean contains(int x, int y, int width, int height);
+
+    // compatibility ra; mo allocate ug bag-o nga Rectangle every call
     Rectangle getBounds();
 
     void setX(int x);
@@ -0,0 +1,88 @@
+package main;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// lock-free single-producer/single-consumer ring buffer para sa key events
+// producer = EDT (keyPressed/keyReleased), consumer = game thread (GameSimulation.step)
+// ang timestamp kay System.nanoTime() sa pag press, para ma sukod ang key-to-photon latency
+public class InputQueue {
+
+    // mga actions
+    public static final int MOVE_UP = 0;
+    public static final int MOVE_DOWN = 1;
+    public static final int MOVE_LEFT = 2;
+    public static final int MOVE_RIGHT = 3;
+    public static final int ATTACK = 4;
+    public static final int SKILL_2 = 5;
+    public static final int SKILL_3 = 6;
+
+    private final int[] events;
+    private final long[] timestamps;
+    private final int mask;
+
+    // head = next nga basahon sa consumer, tail = next nga sulatan sa producer
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // producer ra
+    private long cachedHead = 0;
+    private volatile long dropped = 0;
+
+    public InputQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        events = new int[capacity];
+        timestamps = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    // producer: false kung puno (ang event ma drop)
+    public boolean offer(int action, boolean pressed, long nanos) {
+        long t = tail.getPlain();
+        if (t - cachedHead == events.length) {
+            cachedHead = head.getAcquire();
+            if (t - cachedHead == events.length) {
+                dropped++;
+                return false;
+            }
+        }
+
+        int i = (int) t & mask;
+        events[i] = (action << 1) | (pressed ? 1 : 0);
+        timestamps[i] = nanos;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    // consumer: kopyaha ang tanan pending events (up to outEvents.length), returns ang count
+    public int drain(int[] outEvents, long[] outTimestamps) {
+        long h = head.getPlain();
+        long t = tail.getAcquire();
+        int n = (int) Math.min(t - h, outEvents.length);
+
+        for (int k = 0; k < n; k++) {
+            int i = (int) (h + k) & mask;
+            outEvents[k] = events[i];
+            outTimestamps[k] = timestamps[i];
+        }
+        head.setRelease(h + n);
+        return n;
+    }
+
+    // consumer: ilabay ang pending events (e.g. new game)
+    public void clear() {
+        head.setRelease(tail.getAcquire());
+    }
+
+    public static int actionOf(int event) {
+        return event >>> 1;
+    }
+
+    public static boolean isPressed(int event) {
+        return (event & 1) != 0;
+    }
+
+    public int capacity() { return events.length; }
+    public long getDropped() { return dropped; }
+}
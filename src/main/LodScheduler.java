@@ -0,0 +1,99 @@
+package main;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// AI level of detail: pila ka sagad ma update ang usa ka kaaway, base sa kalayo sa camera
+//   NEAR  (sulod sa camera + NEAR_MARGIN, or bag-o lang na igo): matag tick
+//   MID   (hangtod camera + SLEEP_MARGIN): matag MID_INTERVAL ticks, usa ka lakang para sa tanan ticks nga na skip
+//   FAR   (lapas ana): tulog, walay update hangtod ma duol or ma igo
+// ang camera kay same sa GamePanel (clamped sa edges sa map), so ang makita sa screen kay NEAR permi;
+// ang distance kay Chebyshev (max sa |dx|, |dy|) gikan sa camera rect ngadto sa box sa entity
+public class LodScheduler {
+
+    // same sa window; ang world view kay sa ubos sa HUD
+    public static final int VIEW_WIDTH = 800;
+    public static final int VIEW_HEIGHT = 600 - GameSimulation.HUD_HEIGHT;
+    public static final int NEAR_MARGIN = 128;
+    public static final int SLEEP_MARGIN = 640;
+    public static final int MID_INTERVAL = 4;
+    // ang sleepers kay i-check kung duol na matag WAKE_INTERVAL ticks (ug ang awake kung layo na)
+    public static final int WAKE_INTERVAL = 15;
+    // human ma igo, full update bisan layo (3 s)
+    public static final int DAMAGE_WAKE_TICKS = 180;
+
+    private boolean enabled = true;
+    private long tick;
+    // camera rect sa world pixels
+    private int viewLeft, viewTop, viewRight, viewBottom;
+
+    // gikan sa parallel update sa PersonnelStore, so LongAdder
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private int sleeping = 0;
+
+    // sa sinugdanan sa matag tick, game thread; focus = center sa player
+    public void begin(long currentTick, int focusX, int focusY, TileMap map) {
+        tick = currentTick;
+        viewLeft = TileMap.cameraOffset(focusX, VIEW_WIDTH, map.getPixelWidth());
+        viewTop = TileMap.cameraOffset(focusY, VIEW_HEIGHT, map.getPixelHeight());
+        viewRight = viewLeft + VIEW_WIDTH;
+        viewBottom = viewTop + VIEW_HEIGHT;
+    }
+
+    // 0 kung naa sa screen; size = gidak-on sa entity (square)
+    public int distance(int x, int y, int size) {
+        int dx = Math.max(0, Math.max(viewLeft - (x + size), x - viewRight));
+        int dy = Math.max(0, Math.max(viewTop - (y + size), y - viewBottom));
+        return Math.max(dx, dy);
+    }
+
+    // pila ka ticks ang i-integrate sa entity karon; 0 = skip karong tick
+    // id = stable nga number sa entity (slot), para ang mid-range updates kay ma bahin sa mga ticks
+    public int ticksDue(int id, int x, int y, int size, long lastUpdate, long awakeUntil) {
+        if (enabled && awakeUntil <= tick && distance(x, y, size) > NEAR_MARGIN && (tick + id) % MID_INTERVAL != 0) {
+            return 0;
+        }
+        // near kay 1 ra permi; human sa mid-range kay mo catch up, pero dili lapas sa MID_INTERVAL
+        return (int) Math.max(1, Math.min(MID_INTERVAL, tick - lastUpdate));
+    }
+
+    public boolean shouldSleep(int x, int y, int size, long awakeUntil) {
+        return enabled && awakeUntil <= tick && distance(x, y, size) > SLEEP_MARGIN;
+    }
+
+    public boolean shouldWake(int x, int y, int size) {
+        return !enabled || distance(x, y, size) <= SLEEP_MARGIN;
+    }
+
+    // ang wake/sleep scan kay dili matag tick
+    public boolean isScanTick() {
+        return !enabled || tick % WAKE_INTERVAL == 0;
+    }
+
+    void count(long updated, long skippedUpdates) {
+        if (updated > 0) updates.add(updated);
+        if (skippedUpdates > 0) skipped.add(skippedUpdates);
+    }
+
+    public void reset() {
+        updates.reset();
+        skipped.reset();
+        sleeping = 0;
+    }
+
+    void setSleeping(int sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    // false = tanan update matag tick (para i-compare)
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    // mga getters; ang updates ug skipped kay total sukad sa reset()
+    public boolean isEnabled() { return enabled; }
+    public long getTick() { return tick; }
+    public long getUpdates() { return updates.sum(); }
+    public long getSkipped() { return skipped.sum(); }
+    public int getSleeping() { return sleeping; }
+}
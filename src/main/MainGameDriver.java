@@ -2,6 +2,10 @@ package main;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Paths;
 
 public class MainGameDriver extends JFrame {
 
@@ -16,7 +20,7 @@ public class MainGameDriver extends JFrame {
     private GameState currentState = GameState.MENU;
     private String selectedCharacterName = "Bron";
 
-    private final int currentMap = 1;
+    private int currentMap = 1;
 
     private final MenuPanel menuPanel;
     private final CharSelectPanel selectPanel;
@@ -37,7 +41,20 @@ public class MainGameDriver extends JFrame {
         setSize(800, 600);
         setResizable(false);
 
+        // i-save ang run sa dili pa mo exit; ang stopGameLoop ang mo submit
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if (currentState == GameState.PLAYING) {
+                    gamePanel.stopGameLoop();
+                }
+                SaveManager.shared().flush(2000);
+            }
+        });
+
+        // ang menu una, para makita dayon ang progress; ang uban panels dili na mo block sa decode
         menuPanel = new MenuPanel(this);
+        AssetLoader.shared().preloadAll(menuPanel::onAssetProgress);
         selectPanel = new CharSelectPanel(this);
         storyPanel = new StoryPanel(this);
         gamePanel = new GamePanel();
@@ -71,12 +88,55 @@ public class MainGameDriver extends JFrame {
         // switch state if clear
         currentState = GameState.MAP_CLEARED_STORY;
 
-        // npc alsen mo pop up after ma defeat map 1
-        storyPanel.displayMapCleared(charName, mapNumber);
+        // i-preload na ang sunod nga map samtang nag basa pa sa story
+        boolean hasNext = MapLibrary.shared().has(mapNumber + 1);
+        if (hasNext) {
+            MapLibrary.shared().preload(mapNumber + 1);
+        }
+
+        // npc alsen mo pop up after ma defeat ang map
+        storyPanel.displayMapCleared(charName, mapNumber, hasNext);
 
         cardLayout.show(mainPanel, STORY_CARD);
     }
 
+    public void startNextMap() {
+        currentMap++;
+        changeState(GameState.PLAYING);
+    }
+
+    // gikan sa MenuPanel CONTINUE: diretso sa map sa save, walay story
+    public void continueGame() {
+        SaveGame save = SaveManager.shared().load();
+        if (save == null) {
+            menuPanel.refreshContinue();
+            return;
+        }
+
+        selectedCharacterName = save.getCharacter();
+        currentMap = save.getMapNumber();
+        currentState = GameState.PLAYING;
+        cardLayout.show(mainPanel, GAME_CARD);
+
+        gamePanel.resumeSave(save);
+        gamePanel.startGameLoop();
+
+        gamePanel.requestFocusInWindow();
+    }
+
+    // usage: java main.MainGameDriver --replay <file.wgr> [ticks per frame]
+    public void playReplay(Replay replay, int speed) {
+        selectedCharacterName = replay.getCharacter();
+        currentMap = replay.getMapNumber();
+        currentState = GameState.PLAYING;
+        cardLayout.show(mainPanel, GAME_CARD);
+
+        gamePanel.playReplay(replay, speed);
+        gamePanel.startGameLoop();
+
+        gamePanel.requestFocusInWindow();
+    }
+
     public void changeState(GameState newState) {
         if (this.currentState == newState) return;
 
@@ -91,18 +151,23 @@ public class MainGameDriver extends JFrame {
             selectPanel.requestFocusInWindow();
 
         } else if (newState == GameState.SHOW_STORY) {
+            // bag-o nga run, sugod sa Map 1; ang background ma decode samtang nag basa
+            currentMap = 1;
+            MapLibrary.shared().preload(currentMap);
             storyPanel.displayStory(selectedCharacterName);
             cardLayout.show(mainPanel, STORY_CARD);
 
         } else if (newState == GameState.PLAYING) {
             cardLayout.show(mainPanel, GAME_CARD);
 
-            gamePanel.setPlayerCharacter(selectedCharacterName);
+            gamePanel.startMap(selectedCharacterName, currentMap);
             gamePanel.startGameLoop();
 
             gamePanel.requestFocusInWindow();
 
         } else if (newState == GameState.MENU) {
+            currentMap = 1;
+            menuPanel.refreshContinue();
             cardLayout.show(mainPanel, MENU_CARD);
             menuPanel.requestFocusInWindow();
         }
@@ -114,6 +179,18 @@ public class MainGameDriver extends JFrame {
         } catch (Exception e) {
             e.printStackTrace();
         }
+        if (args.length > 1 && args[0].equals("--replay")) {
+            Replay replay;
+            try {
+                replay = Replay.read(Paths.get(args[1]));
+            } catch (IOException e) {
+                System.err.println("Replay: cannot read " + args[1] + ": " + e.getMessage());
+                return;
+            }
+            int speed = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+            EventQueue.invokeLater(() -> new MainGameDriver().playReplay(replay, speed));
+            return;
+        }
         EventQueue.invokeLater(MainGameDriver::new);
     }
 }
\ No newline at end of file
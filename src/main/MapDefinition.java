@@ -0,0 +1,70 @@
+package main;
+
+// usa ka map gikan sa res/maps.dat; immutable, so safe i-share sa game thread ug renderer
+public class MapDefinition {
+
+    final int number;
+    final String name;
+    // null = open arena
+    final String backgroundPath;
+    final int columns, rows;
+    final int solidBelowLuma;
+
+    final String enemyName;
+    final String enemySprite;
+    final int enemyHP, enemyDamage;
+    final long enemyAttackIntervalMs;
+    // {xNum, xDen, yNum, yDen} matag spawn
+    final int[][] spawns;
+
+    final String bossName;
+    final String bossSprite;
+    final int bossSize, bossHP, bossDamage;
+    final long bossAttackIntervalMs;
+    final int[] bossSpawn;
+
+    // README "Rewards": title ug permanent nga bonus para sa run
+    final String rewardTitle;
+    final int rewardHP, rewardMana;
+
+    MapDefinition(int number, String name, String backgroundPath, int columns, int rows, int solidBelowLuma,
+                  String enemyName, String enemySprite, int enemyHP, int enemyDamage, long enemyAttackIntervalMs,
+                  int[][] spawns,
+                  String bossName, String bossSprite, int bossSize, int bossHP, int bossDamage, long bossAttackIntervalMs,
+                  int[] bossSpawn, String rewardTitle, int rewardHP, int rewardMana) {
+        this.number = number;
+        this.name = name;
+        this.backgroundPath = backgroundPath;
+        this.columns = columns;
+        this.rows = rows;
+        this.solidBelowLuma = solidBelowLuma;
+        this.enemyName = enemyName;
+        this.enemySprite = enemySprite;
+        this.enemyHP = enemyHP;
+        this.enemyDamage = enemyDamage;
+        this.enemyAttackIntervalMs = enemyAttackIntervalMs;
+        this.spawns = spawns;
+        this.bossName = bossName;
+        this.bossSprite = bossSprite;
+        this.bossSize = bossSize;
+        this.bossHP = bossHP;
+        this.bossDamage = bossDamage;
+        this.bossAttackIntervalMs = bossAttackIntervalMs;
+        this.bossSpawn = bossSpawn;
+        this.rewardTitle = rewardTitle;
+        this.rewardHP = rewardHP;
+        this.rewardMana = rewardMana;
+    }
+
+    // e.g. "Map 1: GLE The Ancient Building"
+    public String getTitle() {
+        return "Map " + number + ": " + name;
+    }
+
+    // mga getters
+    public int getNumber() { return number; }
+    public String getName() { return name; }
+    public String getEnemyName() { return enemyName; }
+    public String getBossName() { return bossName; }
+    public String getRewardTitle() { return rewardTitle; }
+}
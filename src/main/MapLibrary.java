@@ -0,0 +1,118 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// gi-parse ang res/maps.dat usa ra ka beses; ang TileMaps kay gi-build sa background ug cached
+public class MapLibrary {
+
+    public static final String MAPS_FILE = "/maps.dat";
+
+    private static class Holder {
+        static final MapLibrary SHARED = new MapLibrary(MAPS_FILE);
+    }
+
+    private final Map<Integer, MapDefinition> definitions;
+    private final Map<Integer, CompletableFuture<TileMap>> tileMaps = new ConcurrentHashMap<>();
+
+    public static MapLibrary shared() {
+        return Holder.SHARED;
+    }
+
+    private MapLibrary(String resource) {
+        definitions = parse(resource);
+    }
+
+    public MapDefinition get(int number) {
+        MapDefinition definition = definitions.get(number);
+        if (definition == null) throw new IllegalArgumentException("No such map: " + number);
+        return definition;
+    }
+
+    public boolean has(int number) {
+        return definitions.containsKey(number);
+    }
+
+    public int count() {
+        return definitions.size();
+    }
+
+    // background: usa ka uncached decode para sa collision layer; non-blocking
+    public CompletableFuture<TileMap> preload(int number) {
+        MapDefinition definition = get(number);
+        return tileMaps.computeIfAbsent(number, n -> {
+            AssetLoader assets = AssetLoader.shared();
+            assets.load(definition.enemySprite);
+            assets.load(definition.bossSprite);
+            if (definition.backgroundPath == null) {
+                return CompletableFuture.completedFuture(TileMap.open(
+                        definition.columns * TileMap.TILE_SIZE, definition.rows * TileMap.TILE_SIZE));
+            }
+            return CompletableFuture.supplyAsync(() ->
+                    TileMap.fromBackground(definition.backgroundPath, definition.columns, definition.rows,
+                            definition.solidBelowLuma), assets.getExecutor());
+        });
+    }
+
+    // mo block ra kung wala pa na preload
+    public TileMap getTileMap(int number) {
+        return preload(number).join();
+    }
+
+    private static Map<Integer, MapDefinition> parse(String resource) {
+        Map<Integer, MapDefinition> result = new TreeMap<>();
+        for (DataFile.Section section : DataFile.read(resource)) {
+            if (!section.header.startsWith("map ")) throw section.error("expected [map N]");
+            int number = section.parseInt(section.header.substring(4));
+            result.put(number, build(section, number));
+        }
+        return result;
+    }
+
+    private static MapDefinition build(DataFile.Section section, int number) {
+        String[] tiles = section.require("tiles").split("\\s+");
+        String[] enemy = section.fields("enemy", 5);
+        String[] boss = section.fields("boss", 6);
+        String background = section.require("background");
+        String[] reward = section.get("reward", null) != null ? section.fields("reward", 3) : new String[] { "", "0", "0" };
+
+        List<int[]> spawns = new ArrayList<>();
+        for (String spawn : section.require("spawns").split(",")) {
+            spawns.add(parsePoint(section, spawn));
+        }
+
+        return new MapDefinition(
+                number,
+                section.require("name"),
+                background.equals("none") ? null : background,
+                section.parseInt(tiles[0]),
+                section.parseInt(tiles.length > 1 ? tiles[1] : ""),
+                section.intValue("solid", 0),
+                enemy[0], enemy[1],
+                section.parseInt(enemy[2]), section.parseInt(enemy[3]), section.parseInt(enemy[4]),
+                spawns.toArray(new int[0][]),
+                boss[0], boss[1],
+                section.parseInt(boss[2]), section.parseInt(boss[3]), section.parseInt(boss[4]),
+                section.parseInt(boss[5]),
+                parsePoint(section, section.require("bossSpawn")),
+                reward[0].isEmpty() ? null : reward[0], section.parseInt(reward[1]), section.parseInt(reward[2]));
+    }
+
+    // "3/4 1/4" -> {3, 4, 1, 4}
+    private static int[] parsePoint(DataFile.Section section, String text) {
+        String[] xy = text.strip().split("\\s+");
+        if (xy.length != 2) throw section.error("expected 'x/d y/d', got '" + text.strip() + "'");
+        int[] point = new int[4];
+        for (int axis = 0; axis < 2; axis++) {
+            String[] fraction = xy[axis].split("/");
+            point[axis * 2] = section.parseInt(fraction[0]);
+            point[axis * 2 + 1] = fraction.length > 1 ? section.parseInt(fraction[1]) : 1;
+            if (point[axis * 2 + 1] == 0) throw section.error("zero denominator in '" + text.strip() + "'");
+        }
+        return point;
+    }
+}
@@ -48,17 +48,13 @@ public class MenuPanel extends JPanel {
     class BackgroundPanel extends JPanel {
         private Image backgroundImage;
 
+        // ang menu mo gawas dayon; ang background mo sulod inig ka decode
         public BackgroundPanel(String fileName) {
-            try {
-                java.net.URL imgURL = getClass().getResource("/" + fileName);
-                if (imgURL != null) {
-                    backgroundImage = new ImageIcon(imgURL).getImage();
-                } else {
-                    System.err.println("Image not found: " + fileName);
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+            AssetLoader.shared().load("/" + fileName).thenAccept(img ->
+                    SwingUtilities.invokeLater(() -> {
+                        backgroundImage = img;
+                        repaint();
+                    }));
         }
 
         @Override
@@ -70,16 +66,36 @@ public class MenuPanel extends JPanel {
                 g.setColor(new Color(62, 0, 0));
                 g.fillRect(0, 0, getWidth(), getHeight());
             }
+
+            if (loadedAssets < totalAssets) {
+                g.setFont(LOADING_FONT);
+                g.setColor(new Color(204, 153, 0));
+                g.drawString("Loading assets " + loadedAssets + "/" + totalAssets, 10, getHeight() - 10);
+            }
         }
     }
 
+    private static final Font LOADING_FONT = new Font("Consolas", Font.PLAIN, 12);
+    private int loadedAssets = 0;
+    private int totalAssets = 0;
+    private BackgroundPanel bgPanel;
+
+    // AssetLoader progress, gikan sa background thread
+    public void onAssetProgress(int loaded, int total, String path) {
+        SwingUtilities.invokeLater(() -> {
+            loadedAssets = Math.max(loadedAssets, loaded);
+            totalAssets = total;
+            bgPanel.repaint();
+        });
+    }
+
     public MenuPanel(MainGameDriver driver) {
         this.driver = driver;
         initComponents();
     }
 
     private void initComponents() {
-        BackgroundPanel bgPanel = new BackgroundPanel("menu_bg.png");
+        bgPanel = new BackgroundPanel("menu_bg.png");
         setLayout(new BorderLayout());
         bgPanel.setLayout(new GroupLayout(bgPanel));
         add(bgPanel, BorderLayout.CENTER);
@@ -87,6 +103,11 @@ public class MenuPanel extends JPanel {
         btnStart = new RpgButton("START");
         btnStart.addActionListener(this::btnStartActionPerformed);
 
+        // makita ra kung naay save (refreshContinue)
+        btnContinue = new RpgButton("CONTINUE");
+        btnContinue.addActionListener(this::btnContinueActionPerformed);
+        btnContinue.setVisible(SaveManager.shared().exists());
+
         btnAbout = new RpgButton("ABOUT");
         btnAbout.addActionListener(this::btnAboutActionPerformed);
 
@@ -105,6 +126,7 @@ public class MenuPanel extends JPanel {
                                 .addGap(300)
                                 .addGroup(layout.createParallelGroup(GroupLayout.Alignment.CENTER)
                                         .addComponent(btnStart, GroupLayout.PREFERRED_SIZE, 200, GroupLayout.PREFERRED_SIZE)
+                                        .addComponent(btnContinue, GroupLayout.PREFERRED_SIZE, 200, GroupLayout.PREFERRED_SIZE)
                                         .addComponent(btnAbout, GroupLayout.PREFERRED_SIZE, 200, GroupLayout.PREFERRED_SIZE))
                                 .addGap(300))
                         .addGroup(layout.createSequentialGroup()
@@ -117,9 +139,11 @@ public class MenuPanel extends JPanel {
 
         layout.setVerticalGroup(
                 layout.createSequentialGroup()
-                        .addGap(280)
+                        .addGap(240)
                         .addComponent(btnStart, GroupLayout.PREFERRED_SIZE, 50, GroupLayout.PREFERRED_SIZE)
                         .addGap(20)
+                        .addComponent(btnContinue, GroupLayout.PREFERRED_SIZE, 50, GroupLayout.PREFERRED_SIZE)
+                        .addGap(20)
                         .addComponent(btnAbout, GroupLayout.PREFERRED_SIZE, 50, GroupLayout.PREFERRED_SIZE)
                         .addPreferredGap(LayoutStyle.ComponentPlacement.RELATED, 120, Short.MAX_VALUE)
                         .addGroup(layout.createParallelGroup(GroupLayout.Alignment.BASELINE)
@@ -135,6 +159,17 @@ public class MenuPanel extends JPanel {
         driver.changeState(MainGameDriver.GameState.SELECT_CHAR);
     }
 
+    private void btnContinueActionPerformed(java.awt.event.ActionEvent evt) {
+        driver.continueGame();
+    }
+
+    // EDT; inig balik sa menu kay basin na save or na delete na
+    public void refreshContinue() {
+        btnContinue.setVisible(SaveManager.shared().exists());
+        bgPanel.revalidate();
+        bgPanel.repaint();
+    }
+
     private void btnAboutActionPerformed(java.awt.event.ActionEvent evt) {
         String about = """
                 Created by: 3rd Street 
@@ -148,10 +183,12 @@ public class MenuPanel extends JPanel {
     }
 
     private void btnExitActionPerformed(java.awt.event.ActionEvent evt) {
+        SaveManager.shared().flush(2000);
         System.exit(0);
     }
 
     private RpgButton btnAbout;
+    private RpgButton btnContinue;
     private RpgButton btnExit;
     private RpgButton btnMusicBG;
     private RpgButton btnStart;
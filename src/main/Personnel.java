@@ -9,15 +9,25 @@ public class Personnel extends GameEntity {
     private int moveTimer = 0;
     private int targetDx = 0;
     private int targetDy = 0;
-    private final int PATROL_SPEED = 3;
-    private final int CHANGE_DIR_INTERVAL = 90;
-
-    private static final int BASE_HP = 750;
-    private static final int BASE_DAMAGE = 100;
-    private static final long ATTACK_INTERVAL = 5000;
+    static final int PATROL_SPEED = 3;
+    static final int CHANGE_DIR_INTERVAL = 90;
+    // mo gukod sa player kung ingon ani ka duol (FlowField nga lakang, usa ka tile matag lakang)
+    static final int CHASE_RANGE = 20;
+
+    // shared sa PersonnelStore
+    static final int SIZE = 64;
+    static final int MIN_Y = 60;
+    static final int BASE_HP = 750;
+    static final int BASE_DAMAGE = 100;
+    static final long ATTACK_INTERVAL = 5000;
 
     public Personnel(int x, int y, Image sprite) {
-        super(x, y, 64, 64, BASE_HP, BASE_DAMAGE, ATTACK_INTERVAL, sprite, null);
+        super(x, y, SIZE, SIZE, BASE_HP, BASE_DAMAGE, ATTACK_INTERVAL, sprite, null);
+    }
+
+    // para sa replays: same seed = same patrol
+    public void setSeed(long seed) {
+        random.setSeed(seed);
     }
 
     public void update(int gameWidth, int gameHeight) {
@@ -33,6 +43,6 @@ public class Personnel extends GameEntity {
         y += targetDy * PATROL_SPEED;
 
         x = Math.max(0, Math.min(x, gameWidth - width));
-        y = Math.max(60, Math.min(y, gameHeight - height));
+        y = Math.max(MIN_Y, Math.min(y, gameHeight - height));
     }
 }
\ No newline at end of file
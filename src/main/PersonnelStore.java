@@ -0,0 +1,526 @@
+package main;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// structure-of-arrays storage para sa daghan nga Personnel
+// dense index 0..size-1 para sa linear loops; handle (generation + slot) para stable references
+// 0..activeCount-1 kay ang awake, activeCount..size-1 kay ang tulog (LodScheduler); ang updateAll kay sa awake ra
+public class PersonnelStore {
+
+    public static final int SIZE = Personnel.SIZE;
+
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+    public static final int MAX_CAPACITY = 1 << SLOT_BITS;
+
+    public static final int NO_HANDLE = -1;
+
+    // dense arrays, index = 0..size-1
+    private int[] x;
+    private int[] y;
+    private int[] hp;
+    private int[] maxHP;
+    private int[] damage;
+    private long[] lastAttackTime;
+    private long[] attackIntervalMs;
+    private int[] moveTimer;
+    private byte[] dirX;
+    private byte[] dirY;
+    private int[] denseToSlot;
+    // SplitMix64 state per entity (same algorithm sa SplittableRandom), para ang random walk
+    // dili mo depende sa update order: serial ug parallel update kay bit-for-bit pareho
+    private long[] rngState;
+    // LodScheduler: tick sa last update, ug full update hangtod ani nga tick (human ma igo)
+    private long[] lodTick;
+    private long[] awakeUntil;
+
+    // per slot
+    private int[] slotToDense;
+    private int[] generation;
+    private int[] freeSlots;
+    private int freeSlotCount = 0;
+    private int slotCount = 0;
+
+    private int size = 0;
+    private int activeCount = 0;
+
+    // ang tick sa last updateAll() nga naay LodScheduler
+    private long now = 0;
+    // slots sa tulog nga na igo; ma wake sa sunod nga updateAll (dili dayon, para dili mausab ang dense indices
+    // samtang naa pay query results ang caller)
+    private int[] wakeQueue = new int[16];
+    private int wakeCount = 0;
+
+    // mo hatag sa seed sa matag bag-ong entity, in spawn order
+    private SplittableRandom seeder = new SplittableRandom();
+
+    // parallel updateAll() kung ang size >= threshold
+    public static final int PARALLEL_THRESHOLD = 4096;
+    private static final int PARALLEL_CHUNK = 1024;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private boolean parallelUpdate = true;
+
+    public PersonnelStore() {
+        this(64);
+    }
+
+    public PersonnelStore(int initialCapacity) {
+        allocateDense(Math.max(1, initialCapacity));
+        allocateSlots(Math.max(1, initialCapacity));
+    }
+
+    public int spawn(int spawnX, int spawnY) {
+        return spawn(spawnX, spawnY, Personnel.BASE_HP, Personnel.BASE_DAMAGE, Personnel.ATTACK_INTERVAL);
+    }
+
+    // stats gikan sa MapDefinition (e.g. Students sa Map 3)
+    public int spawn(int spawnX, int spawnY, int baseHP, int baseDamage, long attackInterval) {
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (slotCount == MAX_CAPACITY) {
+                throw new IllegalStateException("PersonnelStore is full: " + MAX_CAPACITY);
+            }
+            if (slotCount == generation.length) growSlots();
+            slot = slotCount++;
+        }
+
+        if (size == x.length) growDense();
+        int i = size++;
+
+        x[i] = spawnX;
+        y[i] = spawnY;
+        hp[i] = baseHP;
+        maxHP[i] = baseHP;
+        damage[i] = baseDamage;
+        lastAttackTime[i] = GameEntity.NEVER;
+        attackIntervalMs[i] = attackInterval;
+        moveTimer[i] = 0;
+        dirX[i] = 0;
+        dirY[i] = 0;
+        rngState[i] = seeder.nextLong();
+        lodTick[i] = now;
+        awakeUntil[i] = 0;
+        denseToSlot[i] = slot;
+        slotToDense[slot] = i;
+        // bag-o kay awake permi
+        swap(i, activeCount++);
+
+        return (generation[slot] << SLOT_BITS) | slot;
+    }
+
+    // swap-remove: ang last entity mo balhin sa index, so ang dense order mausab
+    // ang mga index >= index ra ang mo balhin, so ang backwards nga loop kay safe gihapon
+    public void removeAt(int index) {
+        if (index < activeCount) {
+            // una i-balhin sa ulahi sa awake, para ang tulog nga last kay dili mo sulod sa awake
+            swap(index, --activeCount);
+            index = activeCount;
+        }
+        int slot = denseToSlot[index];
+        int last = --size;
+
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            hp[index] = hp[last];
+            maxHP[index] = maxHP[last];
+            damage[index] = damage[last];
+            lastAttackTime[index] = lastAttackTime[last];
+            attackIntervalMs[index] = attackIntervalMs[last];
+            moveTimer[index] = moveTimer[last];
+            dirX[index] = dirX[last];
+            dirY[index] = dirY[last];
+            rngState[index] = rngState[last];
+            lodTick[index] = lodTick[last];
+            awakeUntil[index] = awakeUntil[last];
+            denseToSlot[index] = denseToSlot[last];
+            slotToDense[denseToSlot[index]] = index;
+        }
+
+        slotToDense[slot] = -1;
+        generation[slot] = (generation[slot] + 1) & GENERATION_MASK;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    public boolean remove(int handle) {
+        int index = indexOf(handle);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    // i-bump ang generation sa buhi pa nga slots,
+    // para ang daan nga handles (sa wala pa ang restart) kay stale gihapon inig reuse sa slot
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotToDense[slot] >= 0) {
+                generation[slot] = (generation[slot] + 1) & GENERATION_MASK;
+                slotToDense[slot] = -1;
+            }
+        }
+        size = 0;
+        activeCount = 0;
+        wakeCount = 0;
+        now = 0;
+        slotCount = 0;
+        freeSlotCount = 0;
+    }
+
+    // bulk copy sa dense arrays para sa SaveGame (game thread); ang handles dili i-save
+    void saveTo(SaveGame save) {
+        save.allocatePersonnel(size);
+        System.arraycopy(x, 0, save.personnelX, 0, size);
+        System.arraycopy(y, 0, save.personnelY, 0, size);
+        System.arraycopy(hp, 0, save.personnelHP, 0, size);
+        System.arraycopy(maxHP, 0, save.personnelMaxHP, 0, size);
+        System.arraycopy(damage, 0, save.personnelDamage, 0, size);
+        System.arraycopy(lastAttackTime, 0, save.personnelLastAttack, 0, size);
+        System.arraycopy(attackIntervalMs, 0, save.personnelInterval, 0, size);
+        System.arraycopy(moveTimer, 0, save.personnelMoveTimer, 0, size);
+        System.arraycopy(dirX, 0, save.personnelDirX, 0, size);
+        System.arraycopy(dirY, 0, save.personnelDirY, 0, size);
+        System.arraycopy(rngState, 0, save.personnelRng, 0, size);
+        System.arraycopy(lodTick, 0, save.personnelLodTick, 0, size);
+        System.arraycopy(awakeUntil, 0, save.personnelAwakeUntil, 0, size);
+        save.personnelActive = activeCount;
+    }
+
+    // same dense order, bag-o nga handles
+    void restoreFrom(SaveGame save) {
+        clear();
+        now = save.tick;
+        for (int n = 0; n < save.personnelCount; n++) {
+            int i = indexOf(spawn(save.personnelX[n], save.personnelY[n], save.personnelMaxHP[n],
+                    save.personnelDamage[n], save.personnelInterval[n]));
+            hp[i] = save.personnelHP[n];
+            lastAttackTime[i] = save.personnelLastAttack[n];
+            moveTimer[i] = save.personnelMoveTimer[n];
+            dirX[i] = save.personnelDirX[n];
+            dirY[i] = save.personnelDirY[n];
+            rngState[i] = save.personnelRng[n];
+            lodTick[i] = save.personnelLodTick[n];
+            awakeUntil[i] = save.personnelAwakeUntil[n];
+        }
+        // ang spawn kay awake tanan; same dense order, so ang tail kay ang tulog
+        activeCount = save.personnelActive;
+        for (int i = activeCount; i < size; i++) {
+            // na igo pero wala pa na wake sa pag save
+            if (awakeUntil[i] > now) queueWake(i);
+        }
+    }
+
+    // -1 kung patay na or stale ang handle
+    public int indexOf(int handle) {
+        if (handle < 0) return -1;
+        int slot = handle & SLOT_MASK;
+        if (slot >= slotCount || generation[slot] != (handle >>> SLOT_BITS)) return -1;
+        return slotToDense[slot];
+    }
+
+    public boolean isAlive(int handle) {
+        return indexOf(handle) >= 0;
+    }
+
+    public int handleAt(int index) {
+        int slot = denseToSlot[index];
+        return (generation[slot] << SLOT_BITS) | slot;
+    }
+
+    // slot = stable small int, gamit sa SpatialHash
+    public int slotAt(int index) {
+        return denseToSlot[index];
+    }
+
+    public int indexOfSlot(int slot) {
+        return slotToDense[slot];
+    }
+
+    public static int slotOf(int handle) {
+        return handle & SLOT_MASK;
+    }
+
+    // seeds sa sunod nga spawns; para deterministic nga runs (replays, tests)
+    public void setSeed(long seed) {
+        seeder = new SplittableRandom(seed);
+    }
+
+    public void setParallelUpdate(boolean parallelUpdate) {
+        this.parallelUpdate = parallelUpdate;
+    }
+
+    // same random walk sa Personnel.update(); ang entity i ra ang gi-hilabtan, so safe i-parallel
+    // mo bounce sa walls sa TileMap imbes na i-clamp sa screen
+    public void update(int i, TileMap map) {
+        wander(i, map, 1);
+    }
+
+    // ticks > 1: catch-up sa mid-range LOD, ang tanan na skip nga ticks sa usa ka lakang
+    private void wander(int i, TileMap map, int ticks) {
+        moveTimer[i] += ticks;
+        if (moveTimer[i] >= Personnel.CHANGE_DIR_INTERVAL) {
+            dirX[i] = (byte) (nextInt3(i) - 1); // -1, 0, or 1
+            dirY[i] = (byte) (nextInt3(i) - 1); // -1, 0, or 1
+            moveTimer[i] = 0;
+        }
+
+        int newX = x[i] + dirX[i] * Personnel.PATROL_SPEED * ticks;
+        if (map.isBlocked(newX, y[i], SIZE, SIZE)) {
+            dirX[i] = (byte) -dirX[i];
+        } else {
+            x[i] = newX;
+        }
+
+        int newY = y[i] + dirY[i] * Personnel.PATROL_SPEED * ticks;
+        if (map.isBlocked(x[i], newY, SIZE, SIZE)) {
+            dirY[i] = (byte) -dirY[i];
+        } else {
+            y[i] = newY;
+        }
+    }
+
+    // chase: kung sulod sa CHASE_RANGE nga lakang, sunod sa flow field padulong sa player
+    // usa ra ka lookup sa field matag entity; read-only ang field, so safe gihapon i-parallel
+    public void update(int i, TileMap map, FlowField field) {
+        update(i, map, field, 1);
+    }
+
+    public void update(int i, TileMap map, FlowField field, int ticks) {
+        if (field == null || field.distanceAt(x[i], y[i]) > Personnel.CHASE_RANGE) {
+            wander(i, map, ticks);
+            return;
+        }
+        int next = field.nextCell(x[i], y[i]);
+        if (next == FlowField.NO_CELL) {
+            // naa na sa player
+            dirX[i] = 0;
+            dirY[i] = 0;
+            return;
+        }
+
+        // padulong sa top-left sa sunod nga cell, dili mo lapas; slide sa wall imbes na bounce
+        int speed = Personnel.PATROL_SPEED * ticks;
+        int stepX = Math.max(-speed, Math.min(speed, field.cellX(next) - x[i]));
+        int stepY = Math.max(-speed, Math.min(speed, field.cellY(next) - y[i]));
+        dirX[i] = (byte) Integer.signum(stepX);
+        dirY[i] = (byte) Integer.signum(stepY);
+        if (stepX != 0 && !map.isBlocked(x[i] + stepX, y[i], SIZE, SIZE)) x[i] += stepX;
+        if (stepY != 0 && !map.isBlocked(x[i], y[i] + stepY, SIZE, SIZE)) y[i] += stepY;
+    }
+
+    public void updateAll(TileMap map) {
+        updateAll(map, null, null);
+    }
+
+    // field = null para sa random walk ra; lod = null para tanan matag tick
+    public void updateAll(TileMap map, FlowField field, LodScheduler lod) {
+        if (lod != null) schedule(lod);
+        int count = lod != null ? activeCount : size;
+        if (parallelUpdate && count >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new UpdateTask(0, count, map, field, lod));
+        } else {
+            updateRange(0, count, map, field, lod);
+        }
+    }
+
+    private void updateRange(int from, int to, TileMap map, FlowField field, LodScheduler lod) {
+        if (lod == null) {
+            for (int i = from; i < to; i++) {
+                update(i, map, field, 1);
+            }
+            return;
+        }
+        int skipped = 0;
+        for (int i = from; i < to; i++) {
+            int ticks = lod.ticksDue(denseToSlot[i], x[i], y[i], SIZE, lodTick[i], awakeUntil[i]);
+            if (ticks == 0) {
+                skipped++;
+                continue;
+            }
+            update(i, map, field, ticks);
+            lodTick[i] = now;
+        }
+        lod.count(to - from - skipped, skipped);
+    }
+
+    // serial, game thread, una sa update: i-wake ang na igo, dayon matag WAKE_INTERVAL ticks
+    // i-balhin sa tulog ang layo kaayo ug i-wake ang duol na
+    private void schedule(LodScheduler lod) {
+        now = lod.getTick();
+        for (int k = 0; k < wakeCount; k++) {
+            int slot = wakeQueue[k];
+            int i = slot < slotCount ? slotToDense[slot] : -1;
+            if (i >= activeCount) wake(i);
+        }
+        wakeCount = 0;
+
+        if (lod.isScanTick()) {
+            // backwards: ang gi-swap sa i kay na check na
+            for (int i = activeCount - 1; i >= 0; i--) {
+                if (lod.shouldSleep(x[i], y[i], SIZE, awakeUntil[i])) swap(i, --activeCount);
+            }
+            for (int i = activeCount; i < size; i++) {
+                if (lod.shouldWake(x[i], y[i], SIZE)) wake(i);
+            }
+        }
+        // ang tulog kay skipped nga update matag tick
+        lod.count(0, size - activeCount);
+        lod.setSleeping(size - activeCount);
+    }
+
+    private void wake(int i) {
+        // walay catch-up sa oras nga natulog; mo padayon ra gikan karon
+        lodTick[i] = now - 1;
+        swap(i, activeCount++);
+    }
+
+    // split hangtod PARALLEL_CHUNK entities matag task
+    private class UpdateTask extends RecursiveAction {
+        private final int from, to;
+        private final TileMap map;
+        private final FlowField field;
+        private final LodScheduler lod;
+
+        UpdateTask(int from, int to, TileMap map, FlowField field, LodScheduler lod) {
+            this.from = from;
+            this.to = to;
+            this.map = map;
+            this.field = field;
+            this.lod = lod;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                updateRange(from, to, map, field, lod);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new UpdateTask(from, mid, map, field, lod), new UpdateTask(mid, to, map, field, lod));
+        }
+    }
+
+    // 0, 1, or 2 gikan sa SplitMix64 stream sa entity i
+    private int nextInt3(int i) {
+        long z = (rngState[i] += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return (int) ((z >>> 1) % 3);
+    }
+
+    // currentTime = GameClock.nowMillis()
+    public boolean canAttack(int i, long currentTime) {
+        return currentTime - lastAttackTime[i] >= attackIntervalMs[i];
+    }
+
+    public void attack(int i, long currentTime) {
+        lastAttackTime[i] = currentTime;
+    }
+
+    // ang na igo kay full update sulod sa DAMAGE_WAKE_TICKS, bisan layo or tulog
+    public void takeDamage(int i, int amount) {
+        hp[i] -= amount;
+        awakeUntil[i] = now + LodScheduler.DAMAGE_WAKE_TICKS;
+        if (i >= activeCount) queueWake(i);
+    }
+
+    private void queueWake(int i) {
+        if (wakeCount == wakeQueue.length) wakeQueue = Arrays.copyOf(wakeQueue, wakeCount * 2);
+        wakeQueue[wakeCount++] = denseToSlot[i];
+    }
+
+    // i-ilis ang duha ka entity sa dense arrays (awake <-> tulog)
+    private void swap(int a, int b) {
+        if (a == b) return;
+        int t;
+        long tl;
+        byte tb;
+        t = x[a]; x[a] = x[b]; x[b] = t;
+        t = y[a]; y[a] = y[b]; y[b] = t;
+        t = hp[a]; hp[a] = hp[b]; hp[b] = t;
+        t = maxHP[a]; maxHP[a] = maxHP[b]; maxHP[b] = t;
+        t = damage[a]; damage[a] = damage[b]; damage[b] = t;
+        tl = lastAttackTime[a]; lastAttackTime[a] = lastAttackTime[b]; lastAttackTime[b] = tl;
+        tl = attackIntervalMs[a]; attackIntervalMs[a] = attackIntervalMs[b]; attackIntervalMs[b] = tl;
+        t = moveTimer[a]; moveTimer[a] = moveTimer[b]; moveTimer[b] = t;
+        tb = dirX[a]; dirX[a] = dirX[b]; dirX[b] = tb;
+        tb = dirY[a]; dirY[a] = dirY[b]; dirY[b] = tb;
+        tl = rngState[a]; rngState[a] = rngState[b]; rngState[b] = tl;
+        tl = lodTick[a]; lodTick[a] = lodTick[b]; lodTick[b] = tl;
+        tl = awakeUntil[a]; awakeUntil[a] = awakeUntil[b]; awakeUntil[b] = tl;
+        t = denseToSlot[a]; denseToSlot[a] = denseToSlot[b]; denseToSlot[b] = t;
+        slotToDense[denseToSlot[a]] = a;
+        slotToDense[denseToSlot[b]] = b;
+    }
+
+    // mga getters, by dense index
+    public int size() { return size; }
+    // awake = 0..activeCount-1; ang tulog kay wala mo lihok, so dili na kinahanglan i-update sa SpatialHash
+    public int activeCount() { return activeCount; }
+    public boolean isEmpty() { return size == 0; }
+    public int getX(int i) { return x[i]; }
+    public int getY(int i) { return y[i]; }
+    public int getWidth(int i) { return SIZE; }
+    public int getHeight(int i) { return SIZE; }
+    public int getHP(int i) { return hp[i]; }
+    public int getMaxHP(int i) { return maxHP[i]; }
+    public int getDamage(int i) { return damage[i]; }
+    public long getLastAttackTime(int i) { return lastAttackTime[i]; }
+
+    private void growDense() {
+        int newLength = Math.min(MAX_CAPACITY, x.length * 2);
+        x = Arrays.copyOf(x, newLength);
+        y = Arrays.copyOf(y, newLength);
+        hp = Arrays.copyOf(hp, newLength);
+        maxHP = Arrays.copyOf(maxHP, newLength);
+        damage = Arrays.copyOf(damage, newLength);
+        lastAttackTime = Arrays.copyOf(lastAttackTime, newLength);
+        attackIntervalMs = Arrays.copyOf(attackIntervalMs, newLength);
+        moveTimer = Arrays.copyOf(moveTimer, newLength);
+        dirX = Arrays.copyOf(dirX, newLength);
+        dirY = Arrays.copyOf(dirY, newLength);
+        rngState = Arrays.copyOf(rngState, newLength);
+        lodTick = Arrays.copyOf(lodTick, newLength);
+        awakeUntil = Arrays.copyOf(awakeUntil, newLength);
+        denseToSlot = Arrays.copyOf(denseToSlot, newLength);
+    }
+
+    private void growSlots() {
+        int newLength = Math.min(MAX_CAPACITY, generation.length * 2);
+        slotToDense = Arrays.copyOf(slotToDense, newLength);
+        generation = Arrays.copyOf(generation, newLength);
+        freeSlots = Arrays.copyOf(freeSlots, newLength);
+    }
+
+    private void allocateDense(int capacity) {
+        x = new int[capacity];
+        y = new int[capacity];
+        hp = new int[capacity];
+        maxHP = new int[capacity];
+        damage = new int[capacity];
+        lastAttackTime = new long[capacity];
+        attackIntervalMs = new long[capacity];
+        moveTimer = new int[capacity];
+        dirX = new byte[capacity];
+        dirY = new byte[capacity];
+        rngState = new long[capacity];
+        lodTick = new long[capacity];
+        awakeUntil = new long[capacity];
+        denseToSlot = new int[capacity];
+    }
+
+    private void allocateSlots(int capacity) {
+        slotToDense = new int[capacity];
+        generation = new int[capacity];
+        freeSlots = new int[capacity];
+    }
+}
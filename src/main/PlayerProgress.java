@@ -0,0 +1,54 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// ang na accumulate sa usa ka run: map rewards (README "Rewards") ug unsa nga maps na clear
+// game thread ra; ang SaveGame mo kopya ani
+public class PlayerProgress {
+
+    private String character;
+    private int bonusHP = 0;
+    private int bonusMana = 0;
+    private int mapsCleared = 0;
+    private final List<String> titles = new ArrayList<>();
+
+    public PlayerProgress(String character) {
+        this.character = character;
+    }
+
+    // bag-o nga run (Map 1 gikan sa story)
+    public void reset(String newCharacter) {
+        character = newCharacter;
+        bonusHP = 0;
+        bonusMana = 0;
+        mapsCleared = 0;
+        titles.clear();
+    }
+
+    public void recordClear(MapDefinition map) {
+        mapsCleared = Math.max(mapsCleared, map.number);
+        bonusHP += map.rewardHP;
+        bonusMana += map.rewardMana;
+        if (map.rewardTitle != null && !titles.contains(map.rewardTitle)) {
+            titles.add(map.rewardTitle);
+        }
+    }
+
+    // gikan sa SaveGame
+    void restore(String savedCharacter, int savedBonusHP, int savedBonusMana, int savedMapsCleared, List<String> savedTitles) {
+        reset(savedCharacter);
+        bonusHP = savedBonusHP;
+        bonusMana = savedBonusMana;
+        mapsCleared = savedMapsCleared;
+        titles.addAll(savedTitles);
+    }
+
+    // mga getters
+    public String getCharacter() { return character; }
+    public int getBonusHP() { return bonusHP; }
+    public int getBonusMana() { return bonusMana; }
+    public int getMapsCleared() { return mapsCleared; }
+    public List<String> getTitles() { return Collections.unmodifiableList(titles); }
+}
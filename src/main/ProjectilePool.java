@@ -0,0 +1,123 @@
+package main;
+
+// tanan live projectiles sa preallocated primitive arrays (structure of arrays), dense 0..size-1
+// usa ka batched pass matag tick para sa movement, lifetime ug walls; swap-remove inig patay
+// walay allocation per projectile: kung puno, ang bag-o kay i-drop ra
+public class ProjectilePool {
+
+    // kinsa ang ma hit: HOSTILE = player, PLAYER = Personnel ug Boss
+    public static final byte TEAM_HOSTILE = 0;
+    public static final byte TEAM_PLAYER = 1;
+
+    public static final int HOSTILE_RADIUS = 8;
+    public static final int PLAYER_RADIUS = 6;
+
+    private final int capacity;
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final int[] damage;
+    private final int[] ticksLeft;
+    private final byte[] team;
+
+    private int size = 0;
+    private long dropped = 0;
+
+    public ProjectilePool(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        damage = new int[capacity];
+        ticksLeft = new int[capacity];
+        team = new byte[capacity];
+    }
+
+    // center position ug velocity sa px matag tick; false kung puno
+    public boolean spawn(float spawnX, float spawnY, float velocityX, float velocityY, int projectileDamage, int lifetimeTicks, byte projectileTeam) {
+        if (size == capacity) {
+            dropped++;
+            return false;
+        }
+        int i = size++;
+        x[i] = spawnX;
+        y[i] = spawnY;
+        vx[i] = velocityX;
+        vy[i] = velocityY;
+        damage[i] = projectileDamage;
+        ticksLeft[i] = lifetimeTicks;
+        team[i] = projectileTeam;
+        return true;
+    }
+
+    // usa ka tick: lihok, lifetime, ug patay inig igo sa wall or gawas sa world
+    public void integrate(TileMap map) {
+        int i = 0;
+        while (i < size) {
+            float nx = x[i] + vx[i];
+            float ny = y[i] + vy[i];
+            int r = radiusOf(team[i]);
+            if (--ticksLeft[i] <= 0 || map.isBlocked((int) nx - r, (int) ny - r, r * 2, r * 2)) {
+                removeAt(i);
+                continue;
+            }
+            x[i] = nx;
+            y[i] = ny;
+            i++;
+        }
+    }
+
+    // swap-remove: ang last projectile mo lipat sa index i
+    public void removeAt(int i) {
+        int last = --size;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            damage[i] = damage[last];
+            ticksLeft[i] = ticksLeft[last];
+            team[i] = team[last];
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // bulk copy para sa SaveGame (game thread)
+    void saveTo(SaveGame save) {
+        save.allocateProjectiles(size);
+        System.arraycopy(x, 0, save.projectileX, 0, size);
+        System.arraycopy(y, 0, save.projectileY, 0, size);
+        System.arraycopy(vx, 0, save.projectileVX, 0, size);
+        System.arraycopy(vy, 0, save.projectileVY, 0, size);
+        System.arraycopy(damage, 0, save.projectileDamage, 0, size);
+        System.arraycopy(ticksLeft, 0, save.projectileTicks, 0, size);
+        System.arraycopy(team, 0, save.projectileTeam, 0, size);
+    }
+
+    void restoreFrom(SaveGame save) {
+        clear();
+        for (int i = 0; i < save.projectileCount; i++) {
+            spawn(save.projectileX[i], save.projectileY[i], save.projectileVX[i], save.projectileVY[i],
+                    save.projectileDamage[i], save.projectileTicks[i], save.projectileTeam[i]);
+        }
+    }
+
+    public static int radiusOf(byte projectileTeam) {
+        return projectileTeam == TEAM_HOSTILE ? HOSTILE_RADIUS : PLAYER_RADIUS;
+    }
+
+    // mga getters
+    public int size() { return size; }
+    public int getCapacity() { return capacity; }
+    public long getDropped() { return dropped; }
+    public int getX(int i) { return (int) x[i]; }
+    public int getY(int i) { return (int) y[i]; }
+    public int getDamage(int i) { return damage[i]; }
+    public byte getTeam(int i) { return team[i]; }
+}
@@ -0,0 +1,168 @@
+package main;
+
+import java.util.Arrays;
+
+// tanan nga kinahanglan sa renderFrame(), gi-copy gikan sa GameSimulation sa game thread
+// ang arrays kay reused, so walay allocation once na abot na sa steady-state size
+public class RenderSnapshot {
+
+    // gi-set sa RenderSnapshotBuffer, para mahibal-an sa reader kung bag-o ba
+    long sequence;
+
+    long tick;
+    long nowMillis;
+    boolean paused;
+    GameSimulation.GamePhase phase;
+    // immutable, so reference ra
+    TileMap map;
+    MapDefinition definition;
+
+    // System.nanoTime() sa pinaka-daan nga key event nga na apply sukad sa last snapshot, or GameSimulation.NO_INPUT
+    long inputNanos;
+
+    // player
+    boolean hasPlayer;
+    String playerName;
+    int playerX, playerY, playerWidth, playerHeight;
+    int currentHP, currentMana;
+    int maxHP, maxMana;
+    boolean isAttacking;
+    int attackRange;
+
+    // skill bar; ang Skill[] kay immutable nga loadout sa SkillEngine
+    Skill[] skills;
+    long[] skillCooldownMs = new long[SkillBook.SLOTS];
+    int channelSlot = SkillEngine.NO_CHANNEL;
+    boolean shielded;
+
+    // boss
+    boolean hasBoss;
+    int bossX, bossY, bossWidth, bossHeight, bossHP, bossMaxHP;
+    boolean bossAttackFlash;
+    // nag channel ug skill (telegraph)
+    boolean bossChanneling;
+
+    // personnel
+    int personnelCount;
+    int[] personnelX = new int[64];
+    int[] personnelY = new int[64];
+    int[] personnelHP = new int[64];
+    int[] personnelMaxHP = new int[64];
+
+    // projectiles
+    int projectileCount;
+    int[] projectileX = new int[64];
+    int[] projectileY = new int[64];
+    byte[] projectileTeam = new byte[64];
+
+    // popups
+    int popupCount;
+    int[] popupValue = new int[64];
+    int[] popupX = new int[64];
+    int[] popupY = new int[64];
+    long[] popupStartTime = new long[64];
+    byte[] popupColor = new byte[64];
+
+    void capture(GameSimulation simulation) {
+        GameClock clock = simulation.getClock();
+        tick = clock.getTick();
+        nowMillis = clock.nowMillis();
+        paused = clock.isPaused();
+        phase = simulation.getPhase();
+        map = simulation.getMap();
+        definition = simulation.getMapDefinition();
+        inputNanos = simulation.takeInputTimestamp();
+
+        GameEntity player = simulation.getPlayer();
+        hasPlayer = player != null;
+        if (hasPlayer) {
+            playerName = player.getPlayerName();
+            playerX = player.getX();
+            playerY = player.getY();
+            playerWidth = player.getWidth();
+            playerHeight = player.getHeight();
+        }
+        currentHP = simulation.getCurrentHP();
+        currentMana = simulation.getCurrentMana();
+        maxHP = simulation.getMaxHP();
+        maxMana = simulation.getMaxMana();
+        isAttacking = simulation.isAttacking();
+        attackRange = simulation.getAttackRange();
+
+        SkillEngine engine = simulation.getSkills();
+        int caster = simulation.getPlayerCaster();
+        skills = caster >= 0 ? engine.getLoadout(caster) : null;
+        if (skills != null) {
+            for (int slot = 0; slot < skills.length; slot++) {
+                skillCooldownMs[slot] = engine.getCooldownRemainingMs(caster, slot);
+            }
+            channelSlot = engine.getChannelSlot(caster);
+            shielded = engine.isShielded(caster);
+        }
+
+        GameEntity boss = simulation.getBoss();
+        hasBoss = boss != null;
+        if (hasBoss) {
+            bossX = boss.getX();
+            bossY = boss.getY();
+            bossWidth = boss.getWidth();
+            bossHeight = boss.getHeight();
+            bossHP = boss.getHP();
+            bossMaxHP = boss.getMaxHP();
+        }
+        bossAttackFlash = hasBoss && simulation.getBossAttackStartTime() > 0;
+        bossChanneling = hasBoss && simulation.getBossCaster() >= 0
+                && engine.getChannelSlot(simulation.getBossCaster()) != SkillEngine.NO_CHANNEL;
+
+        PersonnelStore personnel = simulation.getPersonnel();
+        int n = personnel.size();
+        if (personnelX.length < n) {
+            int length = Math.max(n, personnelX.length * 2);
+            personnelX = Arrays.copyOf(personnelX, length);
+            personnelY = Arrays.copyOf(personnelY, length);
+            personnelHP = Arrays.copyOf(personnelHP, length);
+            personnelMaxHP = Arrays.copyOf(personnelMaxHP, length);
+        }
+        for (int i = 0; i < n; i++) {
+            personnelX[i] = personnel.getX(i);
+            personnelY[i] = personnel.getY(i);
+            personnelHP[i] = personnel.getHP(i);
+            personnelMaxHP[i] = personnel.getMaxHP(i);
+        }
+        personnelCount = n;
+
+        ProjectilePool projectiles = simulation.getProjectiles();
+        int b = projectiles.size();
+        if (projectileX.length < b) {
+            int length = Math.max(b, projectileX.length * 2);
+            projectileX = Arrays.copyOf(projectileX, length);
+            projectileY = Arrays.copyOf(projectileY, length);
+            projectileTeam = Arrays.copyOf(projectileTeam, length);
+        }
+        for (int i = 0; i < b; i++) {
+            projectileX[i] = projectiles.getX(i);
+            projectileY[i] = projectiles.getY(i);
+            projectileTeam[i] = projectiles.getTeam(i);
+        }
+        projectileCount = b;
+
+        DamagePopupPool popups = simulation.getPopups();
+        int p = popups.size();
+        if (popupValue.length < p) {
+            int length = Math.max(p, popupValue.length * 2);
+            popupValue = Arrays.copyOf(popupValue, length);
+            popupX = Arrays.copyOf(popupX, length);
+            popupY = Arrays.copyOf(popupY, length);
+            popupStartTime = Arrays.copyOf(popupStartTime, length);
+            popupColor = Arrays.copyOf(popupColor, length);
+        }
+        for (int i = 0; i < p; i++) {
+            popupValue[i] = popups.getValue(i);
+            popupX[i] = popups.getX(i);
+            popupY[i] = popups.getY(i);
+            popupStartTime[i] = popups.getStartTime(i);
+            popupColor[i] = (byte) popups.getColorIndex(i);
+        }
+        popupCount = p;
+    }
+}
@@ -0,0 +1,40 @@
+package main;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// lock-free triple buffer tali sa game thread (writer) ug sa renderer (reader)
+// ang writer ug reader naay kaugalingon nga buffer; ang ikatulo ("middle") ang gi-swap atomically,
+// so ang reader dili gyud makakita ug snapshot nga gisulatan pa (walay torn frames)
+public class RenderSnapshotBuffer {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final RenderSnapshot[] buffers = {
+            new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+
+    // middle index + FRESH bit kung wala pa nabasa sa reader
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // owned by the writer thread
+    private int back = 0;
+    private long sequence = 0;
+    // owned by the reader thread
+    private int front = 2;
+
+    // writer: fill the back buffer then swap it into the middle
+    public void publish(GameSimulation simulation) {
+        buffers[back].capture(simulation);
+        buffers[back].sequence = ++sequence;
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // reader: kuhaa ang pinaka-bag-o; kung walay bag-o, same ra sa last frame
+    public RenderSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+}
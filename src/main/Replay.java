@@ -0,0 +1,217 @@
+package main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+// usa ka map attempt: seed + ang input events nga na drain sa GameSimulation matag game tick
+// same seed + same events = same fight, so gamay ra kaayo ang file (walay positions)
+//
+// ang log kay usa ka varint matag event: (ticks sukad sa last event << EVENT_BITS) | event,
+// diin event = InputQueue action << 1 | pressed; ang mga key sa same tick kay delta 0, usa ra ka byte
+//
+// format (big endian): int MAGIC, short VERSION, character, map, seed, bonus HP/mana,
+// end tick, end state hash, event count, log length, log bytes, int CRC32
+public class Replay {
+
+    public static final int MAGIC = 0x57475250; // "WGRP"
+    // 2: ang personnel ug boss kay mo gukod na (FlowField); 3: AI LOD (LodScheduler)
+    // ang daan nga versions kay mo desync, so i-reject
+    public static final short VERSION = 3;
+    public static final String EXTENSION = ".wgr";
+
+    private static final int EVENT_BITS = 4;
+    private static final int EVENT_MASK = (1 << EVENT_BITS) - 1;
+
+    final String character;
+    final int mapNumber;
+    final long seed;
+    final int bonusHP, bonusMana;
+
+    private byte[] log = new byte[256];
+    private int logSize = 0;
+    private int eventCount = 0;
+    private long lastTick = 0;
+
+    // -1 samtang nag record pa
+    private long endTick = -1;
+    private long endHash = 0;
+
+    Replay(String character, int mapNumber, long seed, int bonusHP, int bonusMana) {
+        this.character = character;
+        this.mapNumber = mapNumber;
+        this.seed = seed;
+        this.bonusHP = bonusHP;
+        this.bonusMana = bonusMana;
+    }
+
+    // game thread; tick = ang game tick diin na apply ang event, dili mo balik
+    void record(long tick, int event) {
+        writeVarLong((tick - lastTick) << EVENT_BITS | event);
+        lastTick = tick;
+        eventCount++;
+    }
+
+    void finish(long tick, long stateHash) {
+        endTick = tick;
+        endHash = stateHash;
+    }
+
+    private void writeVarLong(long value) {
+        if (log.length - logSize < 10) log = Arrays.copyOf(log, log.length * 2);
+        while ((value & ~0x7FL) != 0) {
+            log[logSize++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        log[logSize++] = (byte) value;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    // mo feed sa events sa InputQueue sa simulation, tick by tick
+    public class Cursor {
+        private int position = 0;
+        private long nextTick = 0;
+        private int nextEvent = -1;
+
+        Cursor() {
+            readNext();
+        }
+
+        private void readNext() {
+            if (position >= logSize) {
+                nextEvent = -1;
+                return;
+            }
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = log[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            nextTick += value >>> EVENT_BITS;
+            nextEvent = (int) (value & EVENT_MASK);
+        }
+
+        // i-offer ang events para sa sunod nga tick, dayon tawga ang step(); false kung human na
+        public boolean feed(GameSimulation simulation) {
+            long upcoming = simulation.getTickCount() + 1;
+            if (upcoming > endTick) return false;
+            InputQueue input = simulation.getInput();
+            while (nextEvent >= 0 && nextTick <= upcoming) {
+                input.offer(InputQueue.actionOf(nextEvent), InputQueue.isPressed(nextEvent), System.nanoTime());
+                readNext();
+            }
+            return true;
+        }
+    }
+
+    byte[] encode() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + logSize);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(character);
+            out.writeInt(mapNumber);
+            out.writeLong(seed);
+            out.writeInt(bonusHP);
+            out.writeInt(bonusMana);
+            out.writeLong(endTick);
+            out.writeLong(endHash);
+            out.writeInt(eventCount);
+            out.writeInt(logSize);
+            out.write(log, 0, logSize);
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream dili mo throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Replay decode(byte[] data) throws IOException {
+        if (data.length < 10) throw new IOException("replay file is truncated");
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        int stored = ((data[data.length - 4] & 0xff) << 24) | ((data[data.length - 3] & 0xff) << 16)
+                | ((data[data.length - 2] & 0xff) << 8) | (data[data.length - 1] & 0xff);
+        if ((int) crc.getValue() != stored) throw new IOException("replay file checksum mismatch");
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+        if (in.readInt() != MAGIC) throw new IOException("not a WildGeons replay file");
+        short version = in.readShort();
+        if (version != VERSION) throw new IOException("unsupported replay version " + version);
+
+        Replay replay = new Replay(in.readUTF(), in.readInt(), in.readLong(), in.readInt(), in.readInt());
+        if (!MapLibrary.shared().has(replay.mapNumber)) throw new IOException("unknown map " + replay.mapNumber);
+        replay.endTick = in.readLong();
+        replay.endHash = in.readLong();
+        replay.eventCount = in.readInt();
+        int length = in.readInt();
+        if (length < 0 || length > data.length) throw new IOException("bad log length " + length);
+        replay.log = new byte[Math.max(1, length)];
+        in.readFully(replay.log, 0, length);
+        replay.logSize = length;
+        return replay;
+    }
+
+    public static Replay read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Files.write(file, encode());
+    }
+
+    // e.g. ~/.wildgeons/replays/map2-20261018-153000.wgr
+    public static Path defaultFile(int mapNumber) {
+        Path dir = Paths.get(System.getProperty("wildgeons.replays",
+                Paths.get(System.getProperty("user.home"), ".wildgeons", "replays").toString()));
+        return dir.resolve("map" + mapNumber + "-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + EXTENSION);
+    }
+
+    // sa background thread para walay hitch sa game loop, same sa FrameStats CSV
+    public void writeInBackground() {
+        Path file = defaultFile(mapNumber);
+        Thread writer = new Thread(() -> {
+            try {
+                write(file);
+                System.out.println("Replay: wrote " + eventCount + " events, " + endTick + " ticks to " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Replay: could not write " + file + ": " + e.getMessage());
+            }
+        }, "replay-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // mga getters
+    public String getCharacter() { return character; }
+    public int getMapNumber() { return mapNumber; }
+    public long getSeed() { return seed; }
+    public long getEndTick() { return endTick; }
+    public long getEndHash() { return endHash; }
+    public int getEventCount() { return eventCount; }
+    public int getLogSize() { return logSize; }
+}
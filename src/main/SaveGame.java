@@ -0,0 +1,340 @@
+package main;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// usa ka save: progress sa run + (optional) ang live nga state sa map
+// capture() kay sa game thread ra ug bulk array copies ra, para walay hitch;
+// ang encode() ug ang file IO kay sa SaveManager writer thread
+//
+// format (big endian, DataOutputStream):
+//   int MAGIC, short VERSION
+//   progress: character, map number, maps cleared, bonus HP, bonus mana, titles
+//   boolean live; kung true: clock, phase, player, boss, personnel, projectiles, cooldowns
+//   int CRC32 sa tanan sa una
+public class SaveGame {
+
+    public static final int MAGIC = 0x57475356; // "WGSV"
+    // 2: LodScheduler state (awake count, last update ug wake hold matag entity) ug ang random state sa boss;
+    // ang v1 kay ma load gihapon
+    public static final short VERSION = 2;
+
+    // progress
+    String character;
+    int mapNumber;
+    int mapsCleared;
+    int bonusHP, bonusMana;
+    List<String> titles = new ArrayList<>();
+    // human sa final map; ang SaveManager mo delete sa save
+    boolean runComplete;
+
+    // live state; false = sugod sa mapNumber gikan sa sinugdanan
+    boolean live;
+    long tick, nowNanos;
+    GameSimulation.GamePhase phase;
+    int currentHP, currentMana;
+    int playerX, playerY;
+    long playerLastAttack;
+
+    boolean hasBoss;
+    int bossX, bossY, bossHP;
+    long bossLastAttack;
+    int bossMoveTimer, bossDirX, bossDirY;
+    // v1: wala, so bag-o nga patrol stream human sa load
+    long bossRng;
+    long bossLodTick, bossAwakeUntil;
+
+    int personnelCount;
+    int[] personnelX, personnelY, personnelHP, personnelMaxHP, personnelDamage, personnelMoveTimer;
+    long[] personnelLastAttack, personnelInterval, personnelRng;
+    byte[] personnelDirX, personnelDirY;
+    // ang una nga personnelActive kay awake; ang ticks kay absolute, pero relative sa tick sa file
+    int personnelActive;
+    long[] personnelLodTick, personnelAwakeUntil;
+
+    int projectileCount;
+    float[] projectileX, projectileY, projectileVX, projectileVY;
+    int[] projectileDamage, projectileTicks;
+    byte[] projectileTeam;
+
+    // remaining ms matag skill slot; ang channels ug pulses nga nag dagan kay dili i-save
+    long[] playerCooldowns = new long[0];
+    long[] bossCooldowns = new long[0];
+
+    // game thread ra
+    static SaveGame capture(GameSimulation simulation) {
+        SaveGame save = new SaveGame();
+        PlayerProgress progress = simulation.getProgress();
+        MapDefinition map = simulation.getMapDefinition();
+        GameSimulation.GamePhase currentPhase = simulation.getPhase();
+
+        save.character = progress.getCharacter();
+        save.mapsCleared = progress.getMapsCleared();
+        save.bonusHP = progress.getBonusHP();
+        save.bonusMana = progress.getBonusMana();
+        save.titles.addAll(progress.getTitles());
+        save.mapNumber = map.number;
+
+        if (currentPhase == GameSimulation.GamePhase.MAP_CLEARED) {
+            // ang sunod nga map na ang sugdan
+            save.mapNumber = map.number + 1;
+            save.runComplete = !MapLibrary.shared().has(save.mapNumber);
+            return save;
+        }
+        if (currentPhase == GameSimulation.GamePhase.GAME_OVER || simulation.getPlayer() == null) {
+            // balik sa sugod sa map, pero ang rewards kay naa gihapon
+            return save;
+        }
+
+        save.live = true;
+        simulation.captureLiveState(save);
+        return save;
+    }
+
+    byte[] encode() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + personnelCount * 64 + projectileCount * 28);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            out.writeUTF(character);
+            out.writeInt(mapNumber);
+            out.writeInt(mapsCleared);
+            out.writeInt(bonusHP);
+            out.writeInt(bonusMana);
+            out.writeShort(titles.size());
+            for (String title : titles) out.writeUTF(title);
+            out.writeBoolean(runComplete);
+
+            out.writeBoolean(live);
+            if (live) {
+                out.writeLong(tick);
+                out.writeLong(nowNanos);
+                out.writeByte(phase.ordinal());
+                out.writeInt(currentHP);
+                out.writeInt(currentMana);
+                out.writeInt(playerX);
+                out.writeInt(playerY);
+                out.writeLong(playerLastAttack);
+
+                out.writeBoolean(hasBoss);
+                if (hasBoss) {
+                    out.writeInt(bossX);
+                    out.writeInt(bossY);
+                    out.writeInt(bossHP);
+                    out.writeLong(bossLastAttack);
+                    out.writeInt(bossMoveTimer);
+                    out.writeByte(bossDirX);
+                    out.writeByte(bossDirY);
+                    out.writeLong(bossRng);
+                    out.writeByte(lodAge(bossLodTick));
+                    out.writeShort(lodHold(bossAwakeUntil));
+                }
+
+                out.writeInt(personnelCount);
+                out.writeInt(personnelActive);
+                for (int i = 0; i < personnelCount; i++) {
+                    out.writeInt(personnelX[i]);
+                    out.writeInt(personnelY[i]);
+                    out.writeInt(personnelHP[i]);
+                    out.writeInt(personnelMaxHP[i]);
+                    out.writeInt(personnelDamage[i]);
+                    out.writeLong(personnelLastAttack[i]);
+                    out.writeLong(personnelInterval[i]);
+                    out.writeInt(personnelMoveTimer[i]);
+                    out.writeByte(personnelDirX[i]);
+                    out.writeByte(personnelDirY[i]);
+                    out.writeLong(personnelRng[i]);
+                    out.writeByte(lodAge(personnelLodTick[i]));
+                    out.writeShort(lodHold(personnelAwakeUntil[i]));
+                }
+
+                out.writeInt(projectileCount);
+                for (int i = 0; i < projectileCount; i++) {
+                    out.writeFloat(projectileX[i]);
+                    out.writeFloat(projectileY[i]);
+                    out.writeFloat(projectileVX[i]);
+                    out.writeFloat(projectileVY[i]);
+                    out.writeInt(projectileDamage[i]);
+                    out.writeInt(projectileTicks[i]);
+                    out.writeByte(projectileTeam[i]);
+                }
+
+                writeLongs(out, playerCooldowns);
+                writeLongs(out, bossCooldowns);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream dili mo throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static SaveGame decode(byte[] data) throws IOException {
+        if (data.length < 10) throw new IOException("save file is truncated");
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        int stored = ((data[data.length - 4] & 0xff) << 24) | ((data[data.length - 3] & 0xff) << 16)
+                | ((data[data.length - 2] & 0xff) << 8) | (data[data.length - 1] & 0xff);
+        if ((int) crc.getValue() != stored) throw new IOException("save file checksum mismatch");
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+        if (in.readInt() != MAGIC) throw new IOException("not a WildGeons save file");
+        short version = in.readShort();
+        if (version < 1 || version > VERSION) throw new IOException("unsupported save version " + version);
+        boolean v2 = version >= 2;
+
+        SaveGame save = new SaveGame();
+        save.character = in.readUTF();
+        save.mapNumber = in.readInt();
+        save.mapsCleared = in.readInt();
+        save.bonusHP = in.readInt();
+        save.bonusMana = in.readInt();
+        int titleCount = in.readUnsignedShort();
+        for (int i = 0; i < titleCount; i++) save.titles.add(in.readUTF());
+        save.runComplete = in.readBoolean();
+
+        save.live = in.readBoolean();
+        if (save.live) {
+            save.tick = in.readLong();
+            save.nowNanos = in.readLong();
+            int phase = in.readUnsignedByte();
+            if (phase >= GameSimulation.GamePhase.values().length) throw new IOException("bad phase " + phase);
+            save.phase = GameSimulation.GamePhase.values()[phase];
+            save.currentHP = in.readInt();
+            save.currentMana = in.readInt();
+            save.playerX = in.readInt();
+            save.playerY = in.readInt();
+            save.playerLastAttack = in.readLong();
+
+            save.hasBoss = in.readBoolean();
+            if (save.hasBoss) {
+                save.bossX = in.readInt();
+                save.bossY = in.readInt();
+                save.bossHP = in.readInt();
+                save.bossLastAttack = in.readLong();
+                save.bossMoveTimer = in.readInt();
+                save.bossDirX = in.readByte();
+                save.bossDirY = in.readByte();
+                save.bossRng = v2 ? in.readLong() : 0;
+                save.bossLodTick = v2 ? save.tick - in.readUnsignedByte() : save.tick;
+                save.bossAwakeUntil = v2 ? save.tick + in.readUnsignedShort() : 0;
+            }
+
+            int n = readCount(in, PersonnelStore.MAX_CAPACITY);
+            save.allocatePersonnel(n);
+            save.personnelActive = v2 ? in.readInt() : n;
+            if (save.personnelActive < 0 || save.personnelActive > n) throw new IOException("bad awake count " + save.personnelActive);
+            for (int i = 0; i < n; i++) {
+                save.personnelX[i] = in.readInt();
+                save.personnelY[i] = in.readInt();
+                save.personnelHP[i] = in.readInt();
+                save.personnelMaxHP[i] = in.readInt();
+                save.personnelDamage[i] = in.readInt();
+                save.personnelLastAttack[i] = in.readLong();
+                save.personnelInterval[i] = in.readLong();
+                save.personnelMoveTimer[i] = in.readInt();
+                save.personnelDirX[i] = in.readByte();
+                save.personnelDirY[i] = in.readByte();
+                save.personnelRng[i] = in.readLong();
+                save.personnelLodTick[i] = v2 ? save.tick - in.readUnsignedByte() : save.tick;
+                save.personnelAwakeUntil[i] = v2 ? save.tick + in.readUnsignedShort() : 0;
+            }
+
+            int p = readCount(in, GameSimulation.PROJECTILE_CAPACITY);
+            save.allocateProjectiles(p);
+            for (int i = 0; i < p; i++) {
+                save.projectileX[i] = in.readFloat();
+                save.projectileY[i] = in.readFloat();
+                save.projectileVX[i] = in.readFloat();
+                save.projectileVY[i] = in.readFloat();
+                save.projectileDamage[i] = in.readInt();
+                save.projectileTicks[i] = in.readInt();
+                save.projectileTeam[i] = in.readByte();
+            }
+
+            save.playerCooldowns = readLongs(in);
+            save.bossCooldowns = readLongs(in);
+        }
+        return save;
+    }
+
+    void allocatePersonnel(int n) {
+        personnelCount = n;
+        personnelX = new int[n];
+        personnelY = new int[n];
+        personnelHP = new int[n];
+        personnelMaxHP = new int[n];
+        personnelDamage = new int[n];
+        personnelMoveTimer = new int[n];
+        personnelLastAttack = new long[n];
+        personnelInterval = new long[n];
+        personnelRng = new long[n];
+        personnelDirX = new byte[n];
+        personnelDirY = new byte[n];
+        personnelLodTick = new long[n];
+        personnelAwakeUntil = new long[n];
+    }
+
+    // ang LOD ticks kay gamay ra nga offset sa tick: dili lapas sa MID_INTERVAL ug DAMAGE_WAKE_TICKS
+    private int lodAge(long lodTick) {
+        return (int) Math.max(0, Math.min(LodScheduler.MID_INTERVAL, tick - lodTick));
+    }
+
+    private int lodHold(long awakeUntil) {
+        return (int) Math.max(0, Math.min(LodScheduler.DAMAGE_WAKE_TICKS, awakeUntil - tick));
+    }
+
+    void allocateProjectiles(int n) {
+        projectileCount = n;
+        projectileX = new float[n];
+        projectileY = new float[n];
+        projectileVX = new float[n];
+        projectileVY = new float[n];
+        projectileDamage = new int[n];
+        projectileTicks = new int[n];
+        projectileTeam = new byte[n];
+    }
+
+    private static int readCount(DataInputStream in, int max) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > max) throw new IOException("bad entity count " + n);
+        return n;
+    }
+
+    private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+        out.writeByte(values.length);
+        for (long value : values) out.writeLong(value);
+    }
+
+    private static long[] readLongs(DataInputStream in) throws IOException {
+        long[] values = new long[in.readUnsignedByte()];
+        for (int i = 0; i < values.length; i++) values[i] = in.readLong();
+        return values;
+    }
+
+    // mga getters
+    public String getCharacter() { return character; }
+    public int getMapNumber() { return mapNumber; }
+    public boolean isLive() { return live; }
+    public List<String> getTitles() { return titles; }
+
+    @Override
+    public String toString() {
+        return character + " map " + mapNumber + (live ? " (" + phase + ", " + personnelCount + " personnel)" : "")
+                + " titles " + Arrays.toString(titles.toArray());
+    }
+}
@@ -0,0 +1,155 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+// ang save file: usa ka daemon writer thread, ang game thread mo submit() ra ug padayon
+// kung daghan submits samtang nag sulat pa, ang pinaka-bag-o ra ang ma sulat (coalesced)
+// temp file + atomic rename, so ang crash samtang nag sulat kay dili mo guba sa daan nga save
+public class SaveManager {
+
+    public static final String DEFAULT_FILE = ".wildgeons/save.dat";
+
+    private static final SaveManager SHARED = new SaveManager(Paths.get(
+            System.getProperty("wildgeons.save", Paths.get(System.getProperty("user.home"), DEFAULT_FILE).toString())));
+
+    private final Path file;
+    private final Object lock = new Object();
+    // guarded by lock
+    private SaveGame pending;
+    private boolean writing = false;
+    private Thread writer;
+
+    private long writes = 0;
+    private long coalesced = 0;
+    private int lastSize = 0;
+
+    public SaveManager(Path file) {
+        this.file = file;
+    }
+
+    public static SaveManager shared() {
+        return SHARED;
+    }
+
+    // game thread; dili mo block
+    public void submit(SaveGame save) {
+        synchronized (lock) {
+            if (pending != null) coalesced++;
+            pending = save;
+            if (writer == null) {
+                writer = new Thread(this::writeLoop, "save-writer");
+                writer.setDaemon(true);
+                writer.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    // para sa window close: hulat hangtod nahuman ang tanan submits
+    public boolean flush(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (lock) {
+            while (pending != null || writing) {
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) return false;
+                try {
+                    lock.wait(left);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void writeLoop() {
+        while (true) {
+            SaveGame save;
+            synchronized (lock) {
+                while (pending == null) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                save = pending;
+                pending = null;
+                writing = true;
+            }
+            try {
+                write(save);
+            } finally {
+                synchronized (lock) {
+                    writing = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void write(SaveGame save) {
+        try {
+            if (save.runComplete) {
+                // human na ang tanan maps, wala nay i-continue
+                Files.deleteIfExists(file);
+                return;
+            }
+            byte[] data = save.encode();
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, data);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            writes++;
+            lastSize = data.length;
+        } catch (IOException e) {
+            System.err.println("Save: could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    // null kung walay save or guba ang file
+    public SaveGame load() {
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            SaveGame save = SaveGame.decode(Files.readAllBytes(file));
+            if (!MapLibrary.shared().has(save.mapNumber)) throw new IOException("unknown map " + save.mapNumber);
+            return save;
+        } catch (IOException e) {
+            System.err.println("Save: ignoring " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean exists() {
+        return Files.isRegularFile(file);
+    }
+
+    public void delete() {
+        synchronized (lock) {
+            pending = null;
+        }
+        flush(1000);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Save: could not delete " + file + ": " + e.getMessage());
+        }
+    }
+
+    // mga getters
+    public Path getFile() { return file; }
+    public long getWrites() { return writes; }
+    public long getCoalesced() { return coalesced; }
+    public int getLastSize() { return lastSize; }
+}
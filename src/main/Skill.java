@@ -0,0 +1,54 @@
+package main;
+
+// usa ka skill gikan sa res/skills.dat; immutable, so safe i-share sa tanan casters ug sa renderer
+public class Skill {
+
+    public enum Kind { STRIKE, AREA, HEAL, PROJECTILE }
+
+    final String name;
+    final String character;
+    // 0-based: 0 basic, 1 intermediate, 2 ultimate
+    final int slot;
+    final Kind kind;
+    final int amount;
+    final int manaCost;
+    final long cooldownMs;
+    final int range;
+    final long channelMs;
+    final int pulses;
+    final long pulseIntervalMs;
+    // 0 = tanan sa range
+    final int maxTargets;
+    final long shieldMs;
+    // PROJECTILE ra: px matag tick, pila ka buok, ug ang fan sa degrees (360 = ring)
+    final int speed;
+    final int count;
+    final int spreadDegrees;
+
+    Skill(String name, String character, int slot, Kind kind, int amount, int manaCost, long cooldownMs, int range,
+          long channelMs, int pulses, long pulseIntervalMs, int maxTargets, long shieldMs,
+          int speed, int count, int spreadDegrees) {
+        this.name = name;
+        this.character = character;
+        this.slot = slot;
+        this.kind = kind;
+        this.amount = amount;
+        this.manaCost = manaCost;
+        this.cooldownMs = cooldownMs;
+        this.range = range;
+        this.channelMs = channelMs;
+        this.pulses = pulses;
+        this.pulseIntervalMs = pulseIntervalMs;
+        this.maxTargets = maxTargets;
+        this.shieldMs = shieldMs;
+        this.speed = speed;
+        this.count = count;
+        this.spreadDegrees = spreadDegrees;
+    }
+
+    // mga getters
+    public String getName() { return name; }
+    public Kind getKind() { return kind; }
+    public int getManaCost() { return manaCost; }
+    public long getCooldownMs() { return cooldownMs; }
+}
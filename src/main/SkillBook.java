@@ -0,0 +1,98 @@
+package main;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// tanan character ug boss skills gikan sa res/skills.dat, gi-parse usa ra ka beses
+public class SkillBook {
+
+    public static final String SKILLS_FILE = "/skills.dat";
+    public static final int SLOTS = 3;
+    private static final String DEFAULT_CHARACTER = "Bron";
+
+    private static class Holder {
+        static final SkillBook SHARED = new SkillBook(SKILLS_FILE);
+    }
+
+    private final Map<String, Skill[]> loadouts = new HashMap<>();
+
+    public static SkillBook shared() {
+        return Holder.SHARED;
+    }
+
+    private SkillBook(String resource) {
+        for (DataFile.Section section : DataFile.read(resource)) {
+            if (!section.header.startsWith("skill ")) throw section.error("expected [skill Name]");
+            Skill skill = build(section, section.header.substring(6).strip());
+
+            Skill[] loadout = loadouts.computeIfAbsent(skill.character, c -> new Skill[0]);
+            if (loadout.length <= skill.slot) {
+                loadout = Arrays.copyOf(loadout, skill.slot + 1);
+                loadouts.put(skill.character, loadout);
+            }
+            if (loadout[skill.slot] != null) {
+                throw section.error(skill.character + " already has a skill in slot " + (skill.slot + 1));
+            }
+            loadout[skill.slot] = skill;
+        }
+
+        // ang slots kay walay gaps; ang bosses pwede mas gamay sa SLOTS
+        for (Map.Entry<String, Skill[]> entry : loadouts.entrySet()) {
+            for (int slot = 0; slot < entry.getValue().length; slot++) {
+                if (entry.getValue()[slot] == null) {
+                    throw new IllegalStateException(resource + ": " + entry.getKey() + " has no skill in slot " + (slot + 1));
+                }
+            }
+        }
+    }
+
+    public boolean has(String character) {
+        return loadouts.containsKey(character);
+    }
+
+    // kopya, para dili ma usab sa caller; unknown nga character kay Bron
+    public Skill[] loadout(String character) {
+        Skill[] loadout = loadouts.get(character);
+        if (loadout == null) loadout = loadouts.get(DEFAULT_CHARACTER);
+        return loadout.clone();
+    }
+
+    private static Skill build(DataFile.Section section, String name) {
+        int slot = section.intValue("slot");
+        if (slot < 1 || slot > SLOTS) throw section.error("slot must be 1-" + SLOTS);
+
+        Skill.Kind kind;
+        try {
+            kind = Skill.Kind.valueOf(section.require("kind").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw section.error("unknown kind '" + section.require("kind") + "'");
+        }
+
+        int speed = section.intValue("speed", 0);
+        if (kind == Skill.Kind.PROJECTILE && speed <= 0) throw section.error("projectiles need a positive speed");
+
+        int pulses = section.intValue("pulses", 1);
+        int interval = section.intValue("interval", 0);
+        if (pulses < 1 || (pulses > 1 && interval <= 0)) throw section.error("pulses need a positive interval");
+
+        return new Skill(
+                name,
+                section.require("character"),
+                slot - 1,
+                kind,
+                section.intValue("amount"),
+                section.intValue("mana"),
+                section.intValue("cooldown"),
+                section.intValue("range", 0),
+                section.intValue("channel", 0),
+                pulses,
+                interval,
+                section.intValue("targets", 0),
+                section.intValue("shield", 0),
+                speed,
+                Math.max(1, section.intValue("count", 1)),
+                section.intValue("spread", 0));
+    }
+}
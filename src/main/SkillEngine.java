@@ -0,0 +1,170 @@
+package main;
+
+import java.util.Arrays;
+
+// cooldowns, channel times, damage-over-time pulses ug shields sa tanan casters
+// tanan kay timers sa usa ka TimingWheel, so ang cost matag tick kay ang timers nga due ra,
+// dili scan sa tanan active cooldowns; bisan ginatos ka casters kay pipila ra ka timers matag bucket
+// ang effects mismo (damage, heal) kay sa Effects callback, para walay Swing/geometry dinhi
+public class SkillEngine implements TimingWheel.Handler {
+
+    public interface Effects {
+        void apply(int caster, Skill skill);
+    }
+
+    // 1024 ticks (~17 s) matag rotation; ang mas taas nga cooldowns kay naay rounds
+    public static final int WHEEL_BUCKETS = 1024;
+    public static final int NO_CHANNEL = -1;
+
+    // timer types
+    private static final int COOLDOWN = 0;
+    private static final int CHANNEL = 1;
+    private static final int PULSE = 2;
+    private static final int SHIELD = 3;
+
+    // timer data = remaining pulses << SLOT_BITS | slot
+    private static final int SLOT_BITS = 3;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private final GameClock clock;
+    private final Effects effects;
+    private final TimingWheel wheel = new TimingWheel(WHEEL_BUCKETS, 256);
+
+    // per caster
+    private Skill[][] loadouts = new Skill[8][];
+    private int[] coolingMask = new int[8];
+    private int[] channelSlot = new int[8];
+    private int[] shields = new int[8];
+    // game ms inig ready, para sa HUD ra; ang wheel ang mo decide kung ready na
+    private long[][] readyAtMillis = new long[8][];
+    private int casterCount = 0;
+
+    private long casts = 0;
+    private long timersFired = 0;
+
+    public SkillEngine(GameClock clock, Effects effects) {
+        this.clock = clock;
+        this.effects = effects;
+    }
+
+    // returns the caster id
+    public int addCaster(Skill[] loadout) {
+        if (loadout.length > 1 << SLOT_BITS) throw new IllegalArgumentException("too many skill slots: " + loadout.length);
+        if (casterCount == loadouts.length) {
+            int capacity = casterCount * 2;
+            loadouts = Arrays.copyOf(loadouts, capacity);
+            coolingMask = Arrays.copyOf(coolingMask, capacity);
+            channelSlot = Arrays.copyOf(channelSlot, capacity);
+            shields = Arrays.copyOf(shields, capacity);
+            readyAtMillis = Arrays.copyOf(readyAtMillis, capacity);
+        }
+        int caster = casterCount++;
+        loadouts[caster] = loadout;
+        coolingMask[caster] = 0;
+        channelSlot[caster] = NO_CHANNEL;
+        shields[caster] = 0;
+        readyAtMillis[caster] = new long[loadout.length];
+        return caster;
+    }
+
+    // bag-o nga game: walay casters ug walay timers
+    public void reset() {
+        wheel.clear();
+        Arrays.fill(loadouts, 0, casterCount, null);
+        casterCount = 0;
+    }
+
+    public boolean canCast(int caster, int slot) {
+        Skill[] loadout = loadouts[caster];
+        return slot >= 0 && slot < loadout.length && loadout[slot] != null
+                && (coolingMask[caster] & (1 << slot)) == 0
+                && channelSlot[caster] == NO_CHANNEL;
+    }
+
+    // ang caller ang mo check ug mo bayad sa mana
+    public boolean cast(int caster, int slot) {
+        if (!canCast(caster, slot)) return false;
+        Skill skill = loadouts[caster][slot];
+
+        coolingMask[caster] |= 1 << slot;
+        readyAtMillis[caster][slot] = clock.nowMillis() + skill.cooldownMs;
+        wheel.schedule(clock.ticksFor(skill.cooldownMs), COOLDOWN, caster, slot);
+        casts++;
+
+        if (skill.channelMs > 0) {
+            channelSlot[caster] = slot;
+            wheel.schedule(clock.ticksFor(skill.channelMs), CHANNEL, caster, slot);
+        } else {
+            begin(caster, slot, skill);
+        }
+        return true;
+    }
+
+    // usa ka tick
+    public void advance() {
+        wheel.advance(this);
+    }
+
+    @Override
+    public void onTimer(int type, int caster, int data) {
+        timersFired++;
+        int slot = data & SLOT_MASK;
+        Skill skill = loadouts[caster][slot];
+        switch (type) {
+            case COOLDOWN -> coolingMask[caster] &= ~(1 << slot);
+            case CHANNEL -> {
+                channelSlot[caster] = NO_CHANNEL;
+                begin(caster, slot, skill);
+            }
+            case PULSE -> {
+                effects.apply(caster, skill);
+                int remaining = (data >>> SLOT_BITS) - 1;
+                if (remaining > 0) schedulePulse(caster, slot, skill, remaining);
+            }
+            case SHIELD -> shields[caster]--;
+        }
+    }
+
+    private void begin(int caster, int slot, Skill skill) {
+        if (skill.shieldMs > 0) {
+            shields[caster]++;
+            wheel.schedule(clock.ticksFor(skill.shieldMs), SHIELD, caster, slot);
+        }
+        effects.apply(caster, skill);
+        if (skill.pulses > 1) schedulePulse(caster, slot, skill, skill.pulses - 1);
+    }
+
+    private void schedulePulse(int caster, int slot, Skill skill, int remaining) {
+        wheel.schedule(clock.ticksFor(skill.pulseIntervalMs), PULSE, caster, remaining << SLOT_BITS | slot);
+    }
+
+    // 0 kung ready na
+    public long getCooldownRemainingMs(int caster, int slot) {
+        if ((coolingMask[caster] & (1 << slot)) == 0) return 0;
+        return Math.max(0, readyAtMillis[caster][slot] - clock.nowMillis());
+    }
+
+    // gikan sa SaveGame: i-cooldown balik ang slot; channels ug pulses kay dili i-restore
+    void restoreCooldown(int caster, int slot, long remainingMs) {
+        if (remainingMs <= 0 || slot >= loadouts[caster].length || loadouts[caster][slot] == null) return;
+        coolingMask[caster] |= 1 << slot;
+        readyAtMillis[caster][slot] = clock.nowMillis() + remainingMs;
+        wheel.schedule(clock.ticksFor(remainingMs), COOLDOWN, caster, slot);
+    }
+
+    long[] saveCooldowns(int caster) {
+        long[] remaining = new long[loadouts[caster].length];
+        for (int slot = 0; slot < remaining.length; slot++) remaining[slot] = getCooldownRemainingMs(caster, slot);
+        return remaining;
+    }
+
+    // mga getters
+    public Skill getSkill(int caster, int slot) { return loadouts[caster][slot]; }
+    public Skill[] getLoadout(int caster) { return loadouts[caster]; }
+    public int getChannelSlot(int caster) { return channelSlot[caster]; }
+    public boolean isShielded(int caster) { return shields[caster] > 0; }
+    public int getCasterCount() { return casterCount; }
+    public int getActiveTimers() { return wheel.getActiveCount(); }
+    public long getCasts() { return casts; }
+    public long getTimersFired() { return timersFired; }
+}
@@ -0,0 +1,226 @@
+package main;
+
+import java.util.Arrays;
+
+// uniform grid broad-phase; ang entities kay int ids para walay allocation sa query
+// cell size should be around the size of a typical entity (64)
+public class SpatialHash {
+
+    private final int cellSize;
+    private final int bucketMask;
+
+    // buckets[hash] = ids nga naa sa cells nga ni hash ana
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+
+    // per id: bounds ug cell range nga na insert na
+    private int[] boundsX = new int[64];
+    private int[] boundsY = new int[64];
+    private int[] boundsW = new int[64];
+    private int[] boundsH = new int[64];
+    private int[] minCellX = new int[64];
+    private int[] minCellY = new int[64];
+    private int[] maxCellX = new int[64];
+    private int[] maxCellY = new int[64];
+    private boolean[] present = new boolean[64];
+
+    // para dili ma duplicate ang id nga naa sa daghan cells
+    private int[] queryStamp = new int[64];
+    private int currentStamp = 0;
+
+    private int[] results = new int[64];
+    private int size = 0;
+
+    public SpatialHash(int cellSize, int bucketCount) {
+        if (Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("bucketCount must be a power of two: " + bucketCount);
+        }
+        this.cellSize = cellSize;
+        this.bucketMask = bucketCount - 1;
+        this.buckets = new int[bucketCount][];
+        this.bucketSizes = new int[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new int[8];
+        }
+    }
+
+    public void insert(int id, int x, int y, int width, int height) {
+        ensureCapacity(id);
+        if (present[id]) {
+            update(id, x, y, width, height);
+            return;
+        }
+
+        present[id] = true;
+        size++;
+        setBounds(id, x, y, width, height);
+        minCellX[id] = cellOf(x);
+        minCellY[id] = cellOf(y);
+        maxCellX[id] = cellOf(x + width - 1);
+        maxCellY[id] = cellOf(y + height - 1);
+        addToCells(id);
+    }
+
+    // incremental: kung same ra ang cells, bounds ra ang ma update
+    public void update(int id, int x, int y, int width, int height) {
+        if (id >= present.length || !present[id]) {
+            insert(id, x, y, width, height);
+            return;
+        }
+
+        setBounds(id, x, y, width, height);
+
+        int newMinX = cellOf(x);
+        int newMinY = cellOf(y);
+        int newMaxX = cellOf(x + width - 1);
+        int newMaxY = cellOf(y + height - 1);
+        if (newMinX == minCellX[id] && newMinY == minCellY[id] && newMaxX == maxCellX[id] && newMaxY == maxCellY[id]) {
+            return;
+        }
+
+        removeFromCells(id);
+        minCellX[id] = newMinX;
+        minCellY[id] = newMinY;
+        maxCellX[id] = newMaxX;
+        maxCellY[id] = newMaxY;
+        addToCells(id);
+    }
+
+    public void remove(int id) {
+        if (id >= present.length || !present[id]) return;
+        removeFromCells(id);
+        present[id] = false;
+        size--;
+    }
+
+    public void clear() {
+        Arrays.fill(bucketSizes, 0);
+        Arrays.fill(present, false);
+        size = 0;
+    }
+
+    public boolean contains(int id) {
+        return id < present.length && present[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // returns how many ids overlap the rectangle; ang ids naa sa getResults()[0 .. count-1]
+    // same semantics sa Rectangle.intersects()
+    public int query(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) return 0;
+
+        int stamp = nextStamp();
+        int count = 0;
+
+        int fromX = cellOf(x);
+        int fromY = cellOf(y);
+        int toX = cellOf(x + width - 1);
+        int toY = cellOf(y + height - 1);
+
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                int bucket = bucketOf(cx, cy);
+                int[] ids = buckets[bucket];
+                int n = bucketSizes[bucket];
+                for (int i = 0; i < n; i++) {
+                    int id = ids[i];
+                    if (queryStamp[id] == stamp) continue;
+                    queryStamp[id] = stamp;
+
+                    if (boundsX[id] < x + width && x < boundsX[id] + boundsW[id]
+                            && boundsY[id] < y + height && y < boundsY[id] + boundsH[id]) {
+                        if (count == results.length) {
+                            results = Arrays.copyOf(results, count * 2);
+                        }
+                        results[count++] = id;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public int[] getResults() {
+        return results;
+    }
+
+    private int nextStamp() {
+        if (++currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(queryStamp, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    private void setBounds(int id, int x, int y, int width, int height) {
+        boundsX[id] = x;
+        boundsY[id] = y;
+        boundsW[id] = width;
+        boundsH[id] = height;
+    }
+
+    private void addToCells(int id) {
+        for (int cy = minCellY[id]; cy <= maxCellY[id]; cy++) {
+            for (int cx = minCellX[id]; cx <= maxCellX[id]; cx++) {
+                int bucket = bucketOf(cx, cy);
+                int[] ids = buckets[bucket];
+                int n = bucketSizes[bucket];
+                // lain nga cell pero same bucket (hash collision), isa ra ka entry
+                if (indexIn(ids, n, id) >= 0) continue;
+                if (n == ids.length) {
+                    ids = Arrays.copyOf(ids, n * 2);
+                    buckets[bucket] = ids;
+                }
+                ids[n] = id;
+                bucketSizes[bucket] = n + 1;
+            }
+        }
+    }
+
+    private void removeFromCells(int id) {
+        for (int cy = minCellY[id]; cy <= maxCellY[id]; cy++) {
+            for (int cx = minCellX[id]; cx <= maxCellX[id]; cx++) {
+                int bucket = bucketOf(cx, cy);
+                int[] ids = buckets[bucket];
+                int n = bucketSizes[bucket];
+                int index = indexIn(ids, n, id);
+                if (index < 0) continue;
+                ids[index] = ids[n - 1];
+                bucketSizes[bucket] = n - 1;
+            }
+        }
+    }
+
+    private static int indexIn(int[] ids, int n, int id) {
+        for (int i = 0; i < n; i++) {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+
+    private int cellOf(int coord) {
+        return Math.floorDiv(coord, cellSize);
+    }
+
+    private int bucketOf(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & bucketMask;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id < present.length) return;
+        int newLength = Math.max(id + 1, present.length * 2);
+        boundsX = Arrays.copyOf(boundsX, newLength);
+        boundsY = Arrays.copyOf(boundsY, newLength);
+        boundsW = Arrays.copyOf(boundsW, newLength);
+        boundsH = Arrays.copyOf(boundsH, newLength);
+        minCellX = Arrays.copyOf(minCellX, newLength);
+        minCellY = Arrays.copyOf(minCellY, newLength);
+        maxCellX = Arrays.copyOf(maxCellX, newLength);
+        maxCellY = Arrays.copyOf(maxCellY, newLength);
+        present = Arrays.copyOf(present, newLength);
+        queryStamp = Arrays.copyOf(queryStamp, newLength);
+    }
+}
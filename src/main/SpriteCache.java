@@ -0,0 +1,106 @@
+package main;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+// decoded once, then pre-scaled into images compatible sa display para unscaled blit ra ang draw
+// ma rebuild kung mausab ang GraphicsConfiguration (e.g. lain nga monitor) or ang display size sa sprite;
+// ang window resize kay dili mo usab sa sprite sizes (world pixels), so walay rebuild
+// managed BufferedImages ni, dili VolatileImage: ang Java2D mismo ang mo cache sa accelerated copy ug
+// mo re-upload inig ka wala sa surface (contentsLost), ang pixels dinhi kay dili gyud mawala
+public class SpriteCache {
+
+    private final AssetLoader assets = AssetLoader.shared();
+    private final Map<String, ScaledSprite> scaled = new HashMap<>();
+
+    private GraphicsConfiguration graphicsConfig;
+    private int generation = 0;
+
+    private static class ScaledSprite {
+        final int width, height;
+        final Image image;
+
+        ScaledSprite(int width, int height, Image image) {
+            this.width = width;
+            this.height = height;
+            this.image = image;
+        }
+    }
+
+    // bumps every time na invalidate ang cache, para ma re-resolve sa caller ang iyang sprites
+    public int getGeneration() {
+        return generation;
+    }
+
+    public void setGraphicsConfiguration(GraphicsConfiguration gc) {
+        if (gc == null || gc.equals(graphicsConfig)) return;
+        graphicsConfig = gc;
+        invalidate();
+    }
+
+    public void invalidate() {
+        scaled.clear();
+        generation++;
+    }
+
+    // decode sa AssetLoader (background); non-blocking, para sa constructors
+    public void preload(String path) {
+        assets.load(path);
+    }
+
+    // mo block ra kung wala pa nahuman ang decode (first gameplay frame ra normally)
+    public BufferedImage getSource(String path) {
+        return assets.get(path);
+    }
+
+    // null kung wala ang resource, para mo fallback sa magenta box ang draw
+    public Image getSprite(String path, int width, int height) {
+        ScaledSprite sprite = scaled.get(path);
+        if (sprite != null && sprite.width == width && sprite.height == height) {
+            return sprite.image;
+        }
+
+        BufferedImage source = getSource(path);
+        if (source == null) return null;
+
+        BufferedImage image = createCompatible(width, height, Transparency.TRANSLUCENT);
+        scaleInto(source, image);
+        scaled.put(path, new ScaledSprite(width, height, image));
+        return image;
+    }
+
+    private BufferedImage createCompatible(int width, int height, int transparency) {
+        if (graphicsConfig != null) {
+            return graphicsConfig.createCompatibleImage(width, height, transparency);
+        }
+        int type = (transparency == Transparency.OPAQUE) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+        return new BufferedImage(width, height, type);
+    }
+
+    // progressive halving para dili pixelated ang dako nga downscale (e.g. 1024px PNG -> 64px)
+    private static void scaleInto(BufferedImage source, BufferedImage target) {
+        Image current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        while (w / 2 >= target.getWidth() && h / 2 >= target.getHeight()) {
+            w /= 2;
+            h /= 2;
+            BufferedImage half = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2d = half.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(current, 0, 0, w, h, null);
+            g2d.dispose();
+            current = half;
+        }
+
+        Graphics2D g2d = target.createGraphics();
+        g2d.setComposite(AlphaComposite.Src);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(current, 0, 0, target.getWidth(), target.getHeight(), null);
+        g2d.dispose();
+    }
+}
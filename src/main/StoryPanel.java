@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.HashMap;
 import java.util.Map;
 
 public class StoryPanel extends JPanel {
@@ -20,6 +21,9 @@ public class StoryPanel extends JPanel {
     private final String NPC_NAME_JABINES = "Snyd Jabines (Merchant)";
     private final String NPC_NAME_LEGASPINO = "Alsen Blythe Legaspino (Narrator)";
 
+    private final Map<String, ImageIcon> npcIcons = new HashMap<>();
+    private String currentNpc;
+
     private final Map<String, String> CHARACTER_STORIES = Map.of(
             "Bron", "Welcome, determined IT Student! Bron is a determined student who dreams of earning his “certification.” To achieve it, he must conquer every subject that stands in his way.",
             "Abdul", "Developer in training, welcome. Abdul is a hardworking CIT student fighting through stress and challenges. His dream is to become a developer who will make the world a better place.",
@@ -99,12 +103,12 @@ public class StoryPanel extends JPanel {
         String stats = CHARACTER_STATS.getOrDefault(characterName, "Stats unavailable.");
 
         String fullDialogue = String.format(
-                "--- MAP 1: GLE The Ancient Building ---\n\n" +
+                "--- %s ---\n\n" +
                         "**%s speaks to %s:**\n\n" +
                         "\"%s\"\n\n" +
                         "--- CHARACTER STATUS ---\n" +
                         "%s",
-                NPC_NAME_JABINES, characterName, story, stats
+                MapLibrary.shared().get(1).getTitle().toUpperCase(), NPC_NAME_JABINES, characterName, story, stats
         );
         storyTextArea.setText(fullDialogue);
         storyTextArea.setCaretPosition(0);
@@ -117,7 +121,7 @@ public class StoryPanel extends JPanel {
         backButton.setVisible(true);
     }
 
-    public void displayMapCleared(String characterName, int clearedMap) {
+    public void displayMapCleared(String characterName, int clearedMap, boolean hasNextMap) {
         loadNpcImage(NPC_LEGASPINO);
 
         String message = String.format(
@@ -132,28 +136,42 @@ public class StoryPanel extends JPanel {
             continueButton.removeActionListener(al);
         }
         backButton.setVisible(false);
-        continueButton.setText("RETURN TO MENU");
-
-        continueButton.addActionListener(e -> {
-            driver.changeState(MainGameDriver.GameState.MENU);
-        });
+        if (hasNextMap) {
+            continueButton.setText("NEXT MAP");
+            continueButton.addActionListener(e -> driver.startNextMap());
+        } else {
+            continueButton.setText("RETURN TO MENU");
+            continueButton.addActionListener(e -> {
+                driver.changeState(MainGameDriver.GameState.MENU);
+            });
+        }
     }
 
+    // async gikan sa AssetLoader; ang scaled icon kay cached matag NPC
     private void loadNpcImage(String npcFileName) {
-        try {
-            java.net.URL imgURL = getClass().getResource("/" + npcFileName);
-            if (imgURL != null) {
-                ImageIcon icon = new ImageIcon(imgURL);
-                Image originalImage = icon.getImage();
-
-                Image scaledImage = originalImage.getScaledInstance(180, 260, Image.SCALE_SMOOTH);
-                npcLabel.setIcon(new ImageIcon(scaledImage));
-            } else {
-                npcLabel.setText("NPC Image Missing");
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading NPC image.");
+        currentNpc = npcFileName;
+        ImageIcon cached = npcIcons.get(npcFileName);
+        if (cached != null) {
+            npcLabel.setIcon(cached);
+            return;
         }
+
+        npcLabel.setIcon(null);
+        AssetLoader.shared().load("/" + npcFileName).thenAccept(originalImage ->
+                SwingUtilities.invokeLater(() -> {
+                    if (originalImage == null) {
+                        npcLabel.setText("NPC Image Missing");
+                        return;
+                    }
+
+                    Image scaledImage = originalImage.getScaledInstance(180, 260, Image.SCALE_SMOOTH);
+                    ImageIcon icon = new ImageIcon(scaledImage);
+                    npcIcons.put(npcFileName, icon);
+                    // lain na nga NPC ang gipangayo samtang nag load
+                    if (npcFileName.equals(currentNpc)) {
+                        npcLabel.setIcon(icon);
+                    }
+                }));
     }
 
     class RpgButton extends JButton {
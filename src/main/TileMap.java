@@ -0,0 +1,130 @@
+package main;
+
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+
+// world sa tiles: background image layer + collision layer (1 byte matag tile)
+// ang background kay path ra; ang pixels kay gi-stream sa TileMapRenderer matag chunk
+// walay Swing; ang simulation mo gamit sa collision, ang TileMapRenderer mo draw by chunks
+public class TileMap {
+
+    public static final int TILE_SIZE = 32;
+
+    // collision values
+    public static final byte FLOOR = 0;
+    public static final byte SOLID = 1;
+
+    private final int columns;
+    private final int rows;
+    private final int tileSize;
+    private final byte[] collision;
+
+    // null = walay background, plain floor color ra
+    private final String backgroundPath;
+
+    public TileMap(int columns, int rows, int tileSize, byte[] collision, String backgroundPath) {
+        if (collision.length != columns * rows) {
+            throw new IllegalArgumentException("collision layer must be " + columns + "x" + rows);
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.tileSize = tileSize;
+        this.collision = collision;
+        this.backgroundPath = backgroundPath;
+    }
+
+    // walay walls, para sa benchmarks ug headless scenes
+    public static TileMap open(int pixelWidth, int pixelHeight) {
+        int columns = (pixelWidth + TILE_SIZE - 1) / TILE_SIZE;
+        int rows = (pixelHeight + TILE_SIZE - 1) / TILE_SIZE;
+        return new TileMap(columns, rows, TILE_SIZE, new byte[columns * rows], null);
+    }
+
+    // collision gikan sa art mismo: ang ngitngit kaayo nga tiles (void gawas sa building) kay SOLID
+    public static TileMap fromBackground(String backgroundPath, int columns, int rows, int darkThreshold) {
+        byte[] collision = new byte[columns * rows];
+        // transient: ang tibuok image kay para sa scan ra, dili i-cache (ang renderer mo decode by chunk)
+        BufferedImage source = AssetLoader.shared().decodeUncached(backgroundPath);
+        if (source != null) {
+            int w = source.getWidth();
+            int h = source.getHeight();
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < columns; c++) {
+                    int x0 = c * w / columns, x1 = Math.max(x0 + 1, (c + 1) * w / columns);
+                    int y0 = r * h / rows, y1 = Math.max(y0 + 1, (r + 1) * h / rows);
+                    if (averageLuma(source, x0, y0, x1, y1) < darkThreshold) {
+                        collision[r * columns + c] = SOLID;
+                    }
+                }
+            }
+        }
+        return new TileMap(columns, rows, TILE_SIZE, collision, backgroundPath);
+    }
+
+    private static int averageLuma(BufferedImage image, int x0, int y0, int x1, int y1) {
+        long sum = 0;
+        int samples = 0;
+        for (int y = y0; y < y1; y += 2) {
+            for (int x = x0; x < x1; x += 2) {
+                int rgb = image.getRGB(x, y);
+                sum += ((rgb >> 16 & 0xff) * 3 + (rgb >> 8 & 0xff) * 6 + (rgb & 0xff)) / 10;
+                samples++;
+            }
+        }
+        return (int) (sum / Math.max(1, samples));
+    }
+
+    // true kung naa sa gawas sa world or naay SOLID tile nga ma overlap
+    public boolean isBlocked(int x, int y, int width, int height) {
+        if (x < 0 || y < 0 || x + width > getPixelWidth() || y + height > getPixelHeight()) return true;
+
+        int c0 = x / tileSize, c1 = (x + width - 1) / tileSize;
+        int r0 = y / tileSize, r1 = (y + height - 1) / tileSize;
+        for (int r = r0; r <= r1; r++) {
+            int row = r * columns;
+            for (int c = c0; c <= c1; c++) {
+                if (collision[row + c] != FLOOR) return true;
+            }
+        }
+        return false;
+    }
+
+    // pinaka-duol nga libre nga position (tile-aligned spiral search), para sa spawns
+    public Point findFree(int x, int y, int width, int height) {
+        if (!isBlocked(x, y, width, height)) return new Point(x, y);
+
+        int startC = Math.max(0, Math.min(columns - 1, x / tileSize));
+        int startR = Math.max(0, Math.min(rows - 1, y / tileSize));
+        int maxRadius = Math.max(columns, rows);
+        for (int radius = 1; radius <= maxRadius; radius++) {
+            for (int dr = -radius; dr <= radius; dr++) {
+                for (int dc = -radius; dc <= radius; dc++) {
+                    if (Math.abs(dr) != radius && Math.abs(dc) != radius) continue;
+                    int px = (startC + dc) * tileSize;
+                    int py = (startR + dr) * tileSize;
+                    if (!isBlocked(px, py, width, height)) return new Point(px, py);
+                }
+            }
+        }
+        return new Point(Math.max(0, Math.min(x, getPixelWidth() - width)), Math.max(0, Math.min(y, getPixelHeight() - height)));
+    }
+
+    // world offset sa camera sa usa ka axis; i-center kung mas gamay ang world sa view
+    // GamePanel (rendering) ug LodScheduler (unsa ang makita) kay same nga camera
+    public static int cameraOffset(int focus, int view, int world) {
+        if (world <= view) return -(view - world) / 2;
+        return Math.max(0, Math.min(focus - view / 2, world - view));
+    }
+
+    public byte getCollision(int column, int row) {
+        return collision[row * columns + column];
+    }
+
+    // mga getters
+    public int getColumns() { return columns; }
+    public int getRows() { return rows; }
+    public int getTileSize() { return tileSize; }
+    public int getPixelWidth() { return columns * tileSize; }
+    public int getPixelHeight() { return rows * tileSize; }
+    public String getBackgroundPath() { return backgroundPath; }
+}
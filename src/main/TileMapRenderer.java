@@ -0,0 +1,257 @@
+package main;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+// i-draw ang TileMap by chunks (CHUNK_TILES x CHUNK_TILES), pre-rendered sa cached images
+// ang chunks kay lazy: ang background region sa chunk kay i-decode ra (AssetLoader.loadRegion, sa background)
+// inig duol sa camera, dayon i-render sa chunk image ug i-evict inig layo na;
+// walay tibuok background nga resident, so ang memory ug frame time kay proportional sa viewport, dili sa map size
+public class TileMapRenderer {
+
+    public static final int CHUNK_TILES = 16;
+    // pila ka chunks sa palibot sa viewport ang i-keep (para dili mo pop-in inig scroll)
+    private static final int KEEP_MARGIN = 1;
+
+    private static final Color VOID_COLOR = new Color(30, 30, 30);
+    private static final Color FLOOR_COLOR = new Color(45, 40, 45);
+    private static final Color COLLISION_OVERLAY = new Color(255, 0, 0, 90);
+
+    private TileMap map;
+    private GraphicsConfiguration graphicsConfig;
+    private boolean showCollision = false;
+
+    private int chunkColumns, chunkRows;
+    private BufferedImage[] chunks;
+    private int[] loadedChunks = new int[16];
+    private int loadedCount = 0;
+    // background pixels matag chunk nga ginadecode pa or wala pa na render; null = wala na request
+    private CompletableFuture<?>[] regions;
+    private int[] requestedChunks = new int[16];
+    private int requestedCount = 0;
+    // false = floor placeholder pa, i-render balik inig abot sa region
+    private boolean[] complete;
+    private Dimension backgroundSize;
+    private final ArrayDeque<BufferedImage> spare = new ArrayDeque<>();
+    private long chunksRendered = 0;
+
+    // screen = world - camera; camera kay ang world position sa top-left sa screen
+    public void draw(Graphics2D g2d, TileMap map, int cameraX, int cameraY, int viewWidth, int viewHeight) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (map != this.map || gc != graphicsConfig) {
+            reset(map, gc);
+        }
+
+        int chunkPixels = CHUNK_TILES * map.getTileSize();
+
+        // gawas sa world
+        if (cameraX < 0 || cameraY < 0 || cameraX + viewWidth > map.getPixelWidth() || cameraY + viewHeight > map.getPixelHeight()) {
+            g2d.setColor(VOID_COLOR);
+            g2d.fillRect(0, 0, viewWidth, viewHeight);
+        }
+
+        int cx0 = Math.max(0, Math.floorDiv(cameraX, chunkPixels));
+        int cy0 = Math.max(0, Math.floorDiv(cameraY, chunkPixels));
+        int cx1 = Math.min(chunkColumns - 1, Math.floorDiv(cameraX + viewWidth - 1, chunkPixels));
+        int cy1 = Math.min(chunkRows - 1, Math.floorDiv(cameraY + viewHeight - 1, chunkPixels));
+
+        // i-request daan ang regions sa palibot, para naa na sila inig scroll
+        int keepX0 = cx0 - KEEP_MARGIN, keepY0 = cy0 - KEEP_MARGIN, keepX1 = cx1 + KEEP_MARGIN, keepY1 = cy1 + KEEP_MARGIN;
+        if (backgroundSize != null) {
+            for (int cy = Math.max(0, keepY0); cy <= Math.min(chunkRows - 1, keepY1); cy++) {
+                for (int cx = Math.max(0, keepX0); cx <= Math.min(chunkColumns - 1, keepX1); cx++) {
+                    requestRegion(cx, cy);
+                }
+            }
+        }
+
+        // ang edge chunks kay full size, so i-clip sa world bounds
+        Shape oldClip = g2d.getClip();
+        g2d.clipRect(-cameraX, -cameraY, map.getPixelWidth(), map.getPixelHeight());
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                BufferedImage chunk = getChunk(cx, cy);
+                g2d.drawImage(chunk, cx * chunkPixels - cameraX, cy * chunkPixels - cameraY, null);
+            }
+        }
+        g2d.setClip(oldClip);
+
+        evict(keepX0, keepY0, keepX1, keepY1);
+    }
+
+    public void setShowCollision(boolean showCollision) {
+        if (this.showCollision == showCollision) return;
+        this.showCollision = showCollision;
+        reset(map, graphicsConfig);
+    }
+
+    public boolean isShowCollision() {
+        return showCollision;
+    }
+
+    // para sa debug overlay
+    public int getLoadedChunkCount() { return loadedCount; }
+    public int getPendingRegionCount() { return requestedCount; }
+    public long getChunksRendered() { return chunksRendered; }
+
+    private void reset(TileMap map, GraphicsConfiguration gc) {
+        this.map = map;
+        this.graphicsConfig = gc;
+        chunks = null;
+        loadedCount = 0;
+        if (regions != null) {
+            for (int k = 0; k < requestedCount; k++) regions[requestedChunks[k]].cancel(false);
+        }
+        regions = null;
+        requestedCount = 0;
+        spare.clear();
+        if (map == null) return;
+
+        int chunkPixels = CHUNK_TILES * map.getTileSize();
+        chunkColumns = (map.getPixelWidth() + chunkPixels - 1) / chunkPixels;
+        chunkRows = (map.getPixelHeight() + chunkPixels - 1) / chunkPixels;
+        chunks = new BufferedImage[chunkColumns * chunkRows];
+        regions = new CompletableFuture<?>[chunks.length];
+        complete = new boolean[chunks.length];
+        backgroundSize = map.getBackgroundPath() != null ? AssetLoader.shared().getSize(map.getBackgroundPath()) : null;
+    }
+
+    private BufferedImage getChunk(int cx, int cy) {
+        int index = cy * chunkColumns + cx;
+        BufferedImage chunk = chunks[index];
+        if (chunk == null) {
+            chunk = renderChunk(cx, cy, spare.isEmpty() ? createChunkImage(CHUNK_TILES * map.getTileSize()) : spare.pop());
+            chunks[index] = chunk;
+            if (loadedCount == loadedChunks.length) {
+                loadedChunks = Arrays.copyOf(loadedChunks, loadedCount * 2);
+            }
+            loadedChunks[loadedCount++] = index;
+        } else if (!complete[index] && regions[index] != null && regions[index].isDone()) {
+            renderChunk(cx, cy, chunk);
+        }
+        return chunk;
+    }
+
+    // ang background pixels nga sakop sa chunk (+1 px para sa bilinear sa edges), sa background scale
+    private void requestRegion(int cx, int cy) {
+        int index = cy * chunkColumns + cx;
+        if (regions[index] != null || complete[index]) return;
+
+        int chunkPixels = CHUNK_TILES * map.getTileSize();
+        double sx = (double) backgroundSize.width / map.getPixelWidth();
+        double sy = (double) backgroundSize.height / map.getPixelHeight();
+        int x0 = (int) Math.floor(cx * chunkPixels * sx) - 1;
+        int y0 = (int) Math.floor(cy * chunkPixels * sy) - 1;
+        int x1 = (int) Math.ceil((cx + 1) * chunkPixels * sx) + 1;
+        int y1 = (int) Math.ceil((cy + 1) * chunkPixels * sy) + 1;
+        Rectangle region = new Rectangle(x0, y0, x1 - x0, y1 - y0).intersection(
+                new Rectangle(backgroundSize.width, backgroundSize.height));
+        regions[index] = AssetLoader.shared().loadRegion(map.getBackgroundPath(), region)
+                .handle((image, error) -> new Region(error == null ? image : null, region.x, region.y));
+        if (requestedCount == requestedChunks.length) {
+            requestedChunks = Arrays.copyOf(requestedChunks, requestedCount * 2);
+        }
+        requestedChunks[requestedCount++] = index;
+    }
+
+    // decoded nga part sa background ug asa siya sa tibuok image; image = null kung napakyas (floor ra)
+    private record Region(BufferedImage image, int x, int y) {
+    }
+
+    private void dropRegion(int k) {
+        int index = requestedChunks[k];
+        regions[index].cancel(false);
+        regions[index] = null;
+        requestedChunks[k] = requestedChunks[--requestedCount];
+    }
+
+    // ang layo nga chunks i-balik sa spare pool para ma reuse
+    private void evict(int keepX0, int keepY0, int keepX1, int keepY1) {
+        for (int k = loadedCount - 1; k >= 0; k--) {
+            int index = loadedChunks[k];
+            int cx = index % chunkColumns;
+            int cy = index / chunkColumns;
+            if (cx < keepX0 || cx > keepX1 || cy < keepY0 || cy > keepY1) {
+                spare.push(chunks[index]);
+                chunks[index] = null;
+                complete[index] = false;
+                loadedChunks[k] = loadedChunks[--loadedCount];
+            }
+        }
+        for (int k = requestedCount - 1; k >= 0; k--) {
+            int index = requestedChunks[k];
+            int cx = index % chunkColumns;
+            int cy = index / chunkColumns;
+            if (cx < keepX0 || cx > keepX1 || cy < keepY0 || cy > keepY1) dropRegion(k);
+        }
+        // ayaw i-hoard ang daghan kaayo
+        while (spare.size() > 4) {
+            spare.pop().flush();
+        }
+    }
+
+    // edge chunks kay full size gihapon para ma reuse; ang sobra kay di makita
+    private BufferedImage renderChunk(int cx, int cy, BufferedImage chunk) {
+        int tileSize = map.getTileSize();
+        int chunkPixels = CHUNK_TILES * tileSize;
+        int worldX = cx * chunkPixels;
+        int worldY = cy * chunkPixels;
+        int index = cy * chunkColumns + cx;
+
+        Graphics2D g2d = chunk.createGraphics();
+        try {
+            g2d.setColor(FLOOR_COLOR);
+            g2d.fillRect(0, 0, chunkPixels, chunkPixels);
+
+            // floor ra samtang wala pa ang region; ang region kay drop human ma render, ang chunk na ang cache
+            Region region = null;
+            if (backgroundSize != null && regions[index] != null && regions[index].isDone()) {
+                region = (Region) regions[index].getNow(null);
+                for (int k = 0; k < requestedCount; k++) {
+                    if (requestedChunks[k] == index) {
+                        dropRegion(k);
+                        break;
+                    }
+                }
+            }
+            complete[index] = backgroundSize == null || region != null;
+            if (region != null && region.image() != null) {
+                // ang background kay gi-stretch sa tibuok world
+                double sx = (double) backgroundSize.width / map.getPixelWidth();
+                double sy = (double) backgroundSize.height / map.getPixelHeight();
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.drawImage(region.image(),
+                        0, 0, chunkPixels, chunkPixels,
+                        (int) Math.round(worldX * sx) - region.x(), (int) Math.round(worldY * sy) - region.y(),
+                        (int) Math.round((worldX + chunkPixels) * sx) - region.x(), (int) Math.round((worldY + chunkPixels) * sy) - region.y(),
+                        null);
+            }
+
+            if (showCollision) {
+                g2d.setColor(COLLISION_OVERLAY);
+                int firstColumn = cx * CHUNK_TILES, firstRow = cy * CHUNK_TILES;
+                for (int r = 0; r < CHUNK_TILES && firstRow + r < map.getRows(); r++) {
+                    for (int c = 0; c < CHUNK_TILES && firstColumn + c < map.getColumns(); c++) {
+                        if (map.getCollision(firstColumn + c, firstRow + r) != TileMap.FLOOR) {
+                            g2d.fillRect(c * tileSize, r * tileSize, tileSize, tileSize);
+                        }
+                    }
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+        chunksRendered++;
+        return chunk;
+    }
+
+    private BufferedImage createChunkImage(int size) {
+        if (graphicsConfig != null) {
+            return graphicsConfig.createCompatibleImage(size, size, Transparency.OPAQUE);
+        }
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+    }
+}
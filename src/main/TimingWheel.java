@@ -0,0 +1,170 @@
+package main;
+
+import java.util.Arrays;
+
+// hashed timing wheel sa game ticks (Varghese & Lauck): usa ka bucket matag tick,
+// ang timer nga mas layo sa usa ka rotation kay naay "rounds" nga i-count down
+// schedule ug cancel kay O(1); ang advance() mo tan-aw ra sa usa ka bucket, dili sa tanan timers
+// ang timers kay pooled sa primitive arrays (intrusive doubly-linked lists), walay allocation per timer
+public class TimingWheel {
+
+    public interface Handler {
+        void onTimer(int type, int target, int data);
+    }
+
+    private static final int NONE = -1;
+    // bucketOf sa timer nga gi-unlink na para i-fire karong tick
+    private static final int FIRING = -2;
+    private static final int CANCELLED = -3;
+
+    private final int mask;
+    private final int[] buckets;
+
+    // timer pool
+    private int[] type, target, data;
+    private long[] rounds;
+    private int[] next, prev, bucketOf;
+    // generation sa handle para dili ma cancel ang reused nga timer
+    private int[] generation;
+    private int freeHead = NONE;
+    private int allocated = 0;
+
+    private long tick = 0;
+    private int active = 0;
+
+    public TimingWheel(int bucketCount, int initialCapacity) {
+        if (bucketCount <= 0 || Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("bucketCount must be a power of two: " + bucketCount);
+        }
+        mask = bucketCount - 1;
+        buckets = new int[bucketCount];
+        Arrays.fill(buckets, NONE);
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    private void allocate(int capacity) {
+        type = grow(type, capacity);
+        target = grow(target, capacity);
+        data = grow(data, capacity);
+        next = grow(next, capacity);
+        prev = grow(prev, capacity);
+        bucketOf = grow(bucketOf, capacity);
+        generation = grow(generation, capacity);
+        rounds = rounds == null ? new long[capacity] : Arrays.copyOf(rounds, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    // mo fire sa advance() nga mo abot sa (current tick + delayTicks); minimum 1 tick
+    // returns a handle para sa cancel()
+    public long schedule(long delayTicks, int timerType, int timerTarget, int timerData) {
+        long delay = Math.max(1, delayTicks);
+        int t = take();
+        type[t] = timerType;
+        target[t] = timerTarget;
+        data[t] = timerData;
+
+        long due = tick + delay;
+        int bucket = (int) (due & mask);
+        rounds[t] = (delay - 1) / buckets.length;
+        bucketOf[t] = bucket;
+
+        prev[t] = NONE;
+        next[t] = buckets[bucket];
+        if (next[t] != NONE) prev[next[t]] = t;
+        buckets[bucket] = t;
+        active++;
+
+        return ((long) generation[t] << 32) | t;
+    }
+
+    // false kung na fire na or na cancel na
+    public boolean cancel(long handle) {
+        int t = (int) handle;
+        if (t < 0 || t >= allocated || generation[t] != (int) (handle >>> 32)) return false;
+        if (bucketOf[t] == FIRING) {
+            // due karong tick pero wala pa na fire, i-skip ra
+            bucketOf[t] = CANCELLED;
+            return true;
+        }
+        if (bucketOf[t] < 0) return false;
+        unlink(t);
+        release(t);
+        return true;
+    }
+
+    // usa ka tick: i-fire ang timers sa sunod nga bucket nga wala nay rounds
+    // duha ka pass para ang handler pwede mo schedule ug mo cancel bisan unsa nga timer
+    public void advance(Handler handler) {
+        tick++;
+        int bucket = (int) (tick & mask);
+        int firing = NONE;
+        int t = buckets[bucket];
+        while (t != NONE) {
+            int following = next[t];
+            if (rounds[t] > 0) {
+                rounds[t]--;
+            } else {
+                // ang bucket kay newest-first, so ang firing list kay oldest-first
+                unlink(t);
+                bucketOf[t] = FIRING;
+                next[t] = firing;
+                firing = t;
+            }
+            t = following;
+        }
+
+        while (firing != NONE) {
+            t = firing;
+            firing = next[t];
+            boolean live = bucketOf[t] == FIRING;
+            int firedType = type[t], firedTarget = target[t], firedData = data[t];
+            release(t);
+            if (live) handler.onTimer(firedType, firedTarget, firedData);
+        }
+    }
+
+    // dili tawgon gikan sa sulod sa Handler
+    public void clear() {
+        Arrays.fill(buckets, NONE);
+        freeHead = NONE;
+        for (int t = allocated - 1; t >= 0; t--) {
+            if (bucketOf[t] != NONE) generation[t]++;
+            bucketOf[t] = NONE;
+            next[t] = freeHead;
+            freeHead = t;
+        }
+        active = 0;
+    }
+
+    private int take() {
+        if (freeHead == NONE) {
+            if (allocated == type.length) allocate(type.length * 2);
+            return allocated++;
+        }
+        int t = freeHead;
+        freeHead = next[t];
+        return t;
+    }
+
+    private void unlink(int t) {
+        if (prev[t] != NONE) next[prev[t]] = next[t];
+        else buckets[bucketOf[t]] = next[t];
+        if (next[t] != NONE) prev[next[t]] = prev[t];
+    }
+
+    private void release(int t) {
+        bucketOf[t] = NONE;
+        generation[t]++;
+        next[t] = freeHead;
+        freeHead = t;
+        active--;
+    }
+
+    // mga getters
+    public long getTick() { return tick; }
+    public int getActiveCount() { return active; }
+    public int getBucketCount() { return buckets.length; }
+}